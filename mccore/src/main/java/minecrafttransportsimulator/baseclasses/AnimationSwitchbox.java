@@ -36,6 +36,7 @@ public class AnimationSwitchbox {
     private final TransformationMatrix helperOffsetOperationMatrix = new TransformationMatrix();
     private boolean inhibitAnimations;
     private boolean switchboxEnabled;
+    private boolean hasRun;
     private long lastTickRun;
     private float lastPartialTickRun;
 
@@ -51,6 +52,7 @@ public class AnimationSwitchbox {
         if (forceSameTick || lastTickRun != entity.ticksExisted || lastPartialTickRun != partialTicks) {
             lastTickRun = entity.ticksExisted;
             lastPartialTickRun = partialTicks;
+            hasRun = true;
 
             if (applyAfter != null) {
                 AnimationSwitchbox switchbox = entity.animatedObjectSwitchboxes.get(applyAfter);
@@ -132,6 +134,19 @@ public class AnimationSwitchbox {
         }
     }
 
+    /**
+     * Like {@link #runSwitchbox(float, boolean)}, but only runs the switchbox if the entity is on an update frame
+     * as per {@link AEntityD_Definable#isLODUpdateFrame()}.  Otherwise, the results from the last run are kept.
+     * Only use this for rendering, as logic should always use the current state of the entity.
+     */
+    public boolean runSwitchboxLOD(float partialTicks, boolean forceSameTick) {
+        if (hasRun && !entity.isLODUpdateFrame()) {
+            return switchboxEnabled;
+        } else {
+            return runSwitchbox(partialTicks, forceSameTick);
+        }
+    }
+
     public void runTranslation(DurationDelayClock clock, float partialTicks) {
         //Found translation.  This gets applied in the translation axis direction directly.
         double variableValue = entity.getAnimatedVariableValue(clock, clock.animationAxisMagnitude, partialTicks);
@@ -1,11 +1,18 @@
 package minecrafttransportsimulator.baseclasses;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Curve class used for paths.
  * Needs a start point,  end point, start angle, and an end angle to calculate the curve.
  * For all calls, segmentPoint should be a value between 0 and the pathLength of this curve.
+ * <p>
+ * Curve points are stored relative to the start point in flat arrays, so curves with the
+ * same shape share the same point data, even if they start at different points.
  *
  * @author don_bruce
  */
@@ -17,8 +24,9 @@ public class BezierCurve {
     public final float pathLength;
 
     //Cached point data.
-    private final float[][] cachedPathPoints;
-    private final RotationMatrix[] cachedPathRotations;
+    private final CurveData curveData;
+    private static final Map<CurveKey, CurveDataReference> cachedCurveData = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<CurveData> clearedCurveData = new ReferenceQueue<>();
 
     /**
      * Steps between curve calculations.  This is how many intermediate calculations we do between 1-block steps.
@@ -32,34 +40,8 @@ public class BezierCurve {
         this.endRotation = endRotation;
         Point3D startAngles = startRotation.convertToAngles();
         Point3D endAngles = endRotation.convertToAngles();
-        final float[] startPoint = new float[]{(float) startPos.x, (float) startPos.y, (float) startPos.z};
-        final float[] endPoint = new float[]{(float) endPos.x, (float) endPos.y, (float) endPos.z};
-        float midPointDistance = (float) Math.sqrt(Math.pow(endPoint[0] - startPoint[0], 2) + Math.pow(endPoint[1] - startPoint[1], 2) + Math.pow(endPoint[2] - startPoint[2], 2)) / 3F;
-        final float[] startCurvePoint = new float[]{(float) (startPoint[0] + Math.sin(Math.toRadians(startAngles.y)) * midPointDistance), startPoint[1], (float) (startPoint[2] + Math.cos(Math.toRadians(startAngles.y)) * midPointDistance)};
-        final float[] endCurvePoint = new float[]{(float) (endPoint[0] + Math.sin(Math.toRadians(endAngles.y)) * midPointDistance), endPoint[1], (float) (endPoint[2] + Math.cos(Math.toRadians(endAngles.y)) * midPointDistance)};
-
-        this.pathLength = getPathLength(startPoint, endPoint, startCurvePoint, endCurvePoint);
-        float[] pathPointsX = getCachedPathPoints(startPoint[0], endPoint[0], startCurvePoint[0], endCurvePoint[0], pathLength);
-        float[] pathPointsY = getCachedPathPoints(startPoint[1], endPoint[1], startCurvePoint[1], endCurvePoint[1], pathLength);
-        float[] pathPointsZ = getCachedPathPoints(startPoint[2], endPoint[2], startCurvePoint[2], endCurvePoint[2], pathLength);
-
-        this.cachedPathPoints = new float[Math.round(pathLength * CURVE_STEP) + 1][3];
-        this.cachedPathRotations = new RotationMatrix[Math.round(pathLength * CURVE_STEP) + 1];
-        for (int i = 0; i < cachedPathPoints.length; ++i) {
-            cachedPathPoints[i][0] = pathPointsX[i];
-            cachedPathPoints[i][1] = pathPointsY[i];
-            cachedPathPoints[i][2] = pathPointsZ[i];
-            if (i > 0) {
-                RotationMatrix rotation = new RotationMatrix();
-                rotation.angles.x = -Math.toDegrees(Math.atan((cachedPathPoints[i][1] - cachedPathPoints[i - 1][1]) / Math.hypot(cachedPathPoints[i][0] - cachedPathPoints[i - 1][0], cachedPathPoints[i][2] - cachedPathPoints[i - 1][2])));
-                rotation.angles.y = (360 + Math.toDegrees(Math.atan2(cachedPathPoints[i][0] - cachedPathPoints[i - 1][0], cachedPathPoints[i][2] - cachedPathPoints[i - 1][2]))) % 360;
-                rotation.angles.z = startAngles.z + (endAngles.z - startAngles.z) * i / cachedPathPoints.length;
-                cachedPathRotations[i] = rotation.updateToAngles();
-            }
-        }
-
-        //Add point 0 rotations.  We couldn't do those in the loop.
-        cachedPathRotations[0] = cachedPathRotations[1];
+        this.curveData = getCurveData(new CurveKey(new float[]{(float) (endPos.x - startPos.x), (float) (endPos.y - startPos.y), (float) (endPos.z - startPos.z), (float) startAngles.y, (float) startAngles.z, (float) endAngles.y, (float) endAngles.z}));
+        this.pathLength = curveData.pathLength;
     }
 
     /**
@@ -82,8 +64,8 @@ public class BezierCurve {
      * Sets the passed-in Point3d to the cached value of the point at the passed-in segment location.
      */
     public void setPointToPositionAt(Point3D point, float segmentPoint) {
-        float[] cachedPoint = cachedPathPoints[Math.round(segmentPoint * CURVE_STEP)];
-        point.set(cachedPoint[0], cachedPoint[1], cachedPoint[2]);
+        int index = Math.round(segmentPoint * CURVE_STEP) * 3;
+        point.set(startPos.x + curveData.points[index], startPos.y + curveData.points[index + 1], startPos.z + curveData.points[index + 2]);
     }
 
     /**
@@ -94,22 +76,54 @@ public class BezierCurve {
         float delta = segmentPoint * CURVE_STEP;
         int lowIndex = (int) Math.floor(delta);
         int highIndex = (int) Math.ceil(delta);
-        if (highIndex >= cachedPathPoints.length) {
+        if (highIndex >= curveData.pointCount) {
             highIndex = lowIndex;
             delta = 0;
         } else {
             delta -= lowIndex;
         }
-        float[] cachedLowPoint = cachedPathPoints[lowIndex];
-        float[] cachedHighPoint = cachedPathPoints[highIndex];
-        point.add(cachedLowPoint[0] + (cachedHighPoint[0] - cachedLowPoint[0]) * delta, cachedLowPoint[1] + (cachedHighPoint[1] - cachedLowPoint[1]) * delta, cachedLowPoint[2] + (cachedHighPoint[2] - cachedLowPoint[2]) * delta);
+        float[] points = curveData.points;
+        lowIndex *= 3;
+        highIndex *= 3;
+        point.add(startPos.x + points[lowIndex] + (points[highIndex] - points[lowIndex]) * delta, startPos.y + points[lowIndex + 1] + (points[highIndex + 1] - points[lowIndex + 1]) * delta, startPos.z + points[lowIndex + 2] + (points[highIndex + 2] - points[lowIndex + 2]) * delta);
+    }
+
+    /**
+     * Sets the passed-in Point3d to the cached angles of rotation at the passed-in segment location.
+     * This is faster than {@link #getRotationAt(float)} if only the angles are needed.
+     */
+    public void setPointToAnglesAt(Point3D point, float segmentPoint) {
+        int index = Math.round(segmentPoint * CURVE_STEP) * 3;
+        point.set(curveData.angles[index], curveData.angles[index + 1], curveData.angles[index + 2]);
     }
 
     /**
-     * Returns the cached rotation matrix value of rotation at the passed-in segment location.
+     * Returns a new rotation matrix for the cached angles of rotation at the passed-in segment location.
      */
     public RotationMatrix getRotationAt(float segmentPoint) {
-        return cachedPathRotations[Math.round(segmentPoint * CURVE_STEP)];
+        RotationMatrix rotation = new RotationMatrix();
+        setPointToAnglesAt(rotation.angles, segmentPoint);
+        return rotation.updateToAngles();
+    }
+
+    /**
+     * Returns the point data for the curve with the passed-in key.  This is taken from the cache
+     * if another curve with the same shape exists, otherwise it is calculated and cached.
+     */
+    private static CurveData getCurveData(CurveKey key) {
+        //Remove any cached data that's no longer used by any curves.
+        CurveDataReference clearedReference;
+        while ((clearedReference = (CurveDataReference) clearedCurveData.poll()) != null) {
+            cachedCurveData.remove(clearedReference.key, clearedReference);
+        }
+
+        CurveDataReference reference = cachedCurveData.get(key);
+        CurveData data = reference != null ? reference.get() : null;
+        if (data == null) {
+            data = new CurveData(key.values);
+            cachedCurveData.put(key, new CurveDataReference(key, data));
+        }
+        return data;
     }
 
     /**
@@ -139,4 +153,87 @@ public class BezierCurve {
         }
         return points;
     }
-}
\ No newline at end of file
+
+    /**
+     * Point data for a curve shape.  Points are relative to the start of the curve, and are stored
+     * as XYZ triples in one array.  Angles are stored the same way, as pitch, yaw, and roll.
+     */
+    private static class CurveData {
+        private final float pathLength;
+        private final int pointCount;
+        private final float[] points;
+        private final float[] angles;
+
+        private CurveData(float[] keyValues) {
+            float startYaw = keyValues[3];
+            float startRoll = keyValues[4];
+            float endYaw = keyValues[5];
+            float endRoll = keyValues[6];
+            final float[] startPoint = new float[]{0, 0, 0};
+            final float[] endPoint = new float[]{keyValues[0], keyValues[1], keyValues[2]};
+            float midPointDistance = (float) Math.sqrt(Math.pow(endPoint[0] - startPoint[0], 2) + Math.pow(endPoint[1] - startPoint[1], 2) + Math.pow(endPoint[2] - startPoint[2], 2)) / 3F;
+            final float[] startCurvePoint = new float[]{(float) (startPoint[0] + Math.sin(Math.toRadians(startYaw)) * midPointDistance), startPoint[1], (float) (startPoint[2] + Math.cos(Math.toRadians(startYaw)) * midPointDistance)};
+            final float[] endCurvePoint = new float[]{(float) (endPoint[0] + Math.sin(Math.toRadians(endYaw)) * midPointDistance), endPoint[1], (float) (endPoint[2] + Math.cos(Math.toRadians(endYaw)) * midPointDistance)};
+
+            this.pathLength = getPathLength(startPoint, endPoint, startCurvePoint, endCurvePoint);
+            float[] pathPointsX = getCachedPathPoints(startPoint[0], endPoint[0], startCurvePoint[0], endCurvePoint[0], pathLength);
+            float[] pathPointsY = getCachedPathPoints(startPoint[1], endPoint[1], startCurvePoint[1], endCurvePoint[1], pathLength);
+            float[] pathPointsZ = getCachedPathPoints(startPoint[2], endPoint[2], startCurvePoint[2], endCurvePoint[2], pathLength);
+
+            this.pointCount = pathPointsX.length;
+            this.points = new float[pointCount * 3];
+            this.angles = new float[pointCount * 3];
+            for (int i = 0; i < pointCount; ++i) {
+                points[i * 3] = pathPointsX[i];
+                points[i * 3 + 1] = pathPointsY[i];
+                points[i * 3 + 2] = pathPointsZ[i];
+                if (i > 0) {
+                    angles[i * 3] = (float) -Math.toDegrees(Math.atan((pathPointsY[i] - pathPointsY[i - 1]) / Math.hypot(pathPointsX[i] - pathPointsX[i - 1], pathPointsZ[i] - pathPointsZ[i - 1])));
+                    angles[i * 3 + 1] = (float) ((360 + Math.toDegrees(Math.atan2(pathPointsX[i] - pathPointsX[i - 1], pathPointsZ[i] - pathPointsZ[i - 1]))) % 360);
+                    angles[i * 3 + 2] = startRoll + (endRoll - startRoll) * i / pointCount;
+                }
+            }
+
+            //Add point 0 rotations.  We couldn't do those in the loop.
+            angles[0] = angles[3];
+            angles[1] = angles[4];
+            angles[2] = angles[5];
+        }
+    }
+
+    /**
+     * Key for curve shapes in the cache.  Contains the end point relative to the start point, and the
+     * start and end yaw and roll, as these are all that the point data depends on.
+     */
+    private static class CurveKey {
+        private final float[] values;
+        private final int hashCode;
+
+        private CurveKey(float[] values) {
+            this.values = values;
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof CurveKey && Arrays.equals(values, ((CurveKey) object).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Weak reference to cached curve data, so data is removed from the cache when no curves use it.
+     */
+    private static class CurveDataReference extends WeakReference<CurveData> {
+        private final CurveKey key;
+
+        private CurveDataReference(CurveKey key, CurveData data) {
+            super(data, clearedCurveData);
+            this.key = key;
+        }
+    }
+}
@@ -33,7 +33,8 @@ import minecrafttransportsimulator.rendering.RenderableVertices;
  * @author don_bruce
  */
 public class BoundingBox {
-    private static final double HITBOX_CLAMP = 0.015625;
+    /**Step that the global centers of collision boxes are rounded to.**/
+    public static final double HITBOX_CLAMP = 0.015625;
     public final Point3D localCenter;
     public final Point3D globalCenter;
     public final Point3D currentCollisionDepth;
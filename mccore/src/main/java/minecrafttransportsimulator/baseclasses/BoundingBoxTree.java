@@ -0,0 +1,211 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bounding volume tree for a set of {@link BoundingBox}es.  This allows for path checks against
+ * entities with lots of boxes without having to check every single box.  The structure of the
+ * tree is only re-built when the set of boxes changes.  If the boxes just move, such as when
+ * the entity moves or animations move the boxes, the bounds of the existing nodes are re-fit
+ * to the boxes instead, which is far quicker.
+ */
+public class BoundingBoxTree {
+    private static final int MAX_BOXES_PER_LEAF = 4;
+    private final Set<BoundingBox> treeBoxes = new HashSet<>();
+    private BoundingBox[] boxes = new BoundingBox[0];
+    private int nodeCount;
+    private int[] nodeBoxStart = new int[0];
+    private int[] nodeBoxEnd = new int[0];
+    private int[] nodeRightChild = new int[0];
+    private double[] nodeBounds = new double[0];
+    private int[] nodeStack = new int[0];
+    private final double[] pathStart = new double[3];
+    private final double[] pathDelta = new double[3];
+
+    /**
+     * Updates this tree to the passed-in boxes.  If the boxes are the same as the last call,
+     * then the tree is re-fit to their current positions.  If not, the tree is re-built.
+     */
+    public void update(Set<BoundingBox> newBoxes) {
+        if (treeBoxes.equals(newBoxes)) {
+            refit();
+        } else {
+            treeBoxes.clear();
+            treeBoxes.addAll(newBoxes);
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns all boxes that could be hit by the path defined by the passed-in points.
+     * This doesn't do any box checks, it only removes boxes that can't be hit.  Callers
+     * should still check the returned boxes for actual intersections.
+     */
+    public List<BoundingBox> getBoxesOnPath(Point3D start, Point3D end) {
+        List<BoundingBox> boxesOnPath = new ArrayList<>();
+        if (nodeCount > 0) {
+            pathStart[0] = start.x;
+            pathStart[1] = start.y;
+            pathStart[2] = start.z;
+            pathDelta[0] = end.x - start.x;
+            pathDelta[1] = end.y - start.y;
+            pathDelta[2] = end.z - start.z;
+            int stackSize = 0;
+            nodeStack[stackSize++] = 0;
+            while (stackSize > 0) {
+                int node = nodeStack[--stackSize];
+                if (isPathInNode(node)) {
+                    if (nodeRightChild[node] == -1) {
+                        for (int i = nodeBoxStart[node]; i < nodeBoxEnd[node]; ++i) {
+                            boxesOnPath.add(boxes[i]);
+                        }
+                    } else {
+                        //Left child is always directly after the parent.
+                        nodeStack[stackSize++] = nodeRightChild[node];
+                        nodeStack[stackSize++] = node + 1;
+                    }
+                }
+            }
+        }
+        return boxesOnPath;
+    }
+
+    private void rebuild() {
+        boxes = treeBoxes.toArray(new BoundingBox[treeBoxes.size()]);
+        int maxNodes = Math.max(2 * boxes.length - 1, 0);
+        if (nodeBoxStart.length < maxNodes) {
+            nodeBoxStart = new int[maxNodes];
+            nodeBoxEnd = new int[maxNodes];
+            nodeRightChild = new int[maxNodes];
+            nodeBounds = new double[maxNodes * 6];
+            nodeStack = new int[maxNodes + 1];
+        }
+        nodeCount = 0;
+        if (boxes.length > 0) {
+            buildNode(0, boxes.length);
+        }
+    }
+
+    /**
+     * Builds the node for the passed-in range of boxes, and all its child nodes.
+     * Nodes are created parent-first, so children always have higher indexes than their parents.
+     */
+    private int buildNode(int start, int end) {
+        int node = nodeCount++;
+        nodeBoxStart[node] = start;
+        nodeBoxEnd[node] = end;
+        setBoundsToBoxes(node);
+        if (end - start <= MAX_BOXES_PER_LEAF) {
+            nodeRightChild[node] = -1;
+        } else {
+            //Split on the axis where the box centers are the most spread-out.
+            double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+            double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+            for (int i = start; i < end; ++i) {
+                Point3D center = boxes[i].globalCenter;
+                minX = Math.min(minX, center.x);
+                minY = Math.min(minY, center.y);
+                minZ = Math.min(minZ, center.z);
+                maxX = Math.max(maxX, center.x);
+                maxY = Math.max(maxY, center.y);
+                maxZ = Math.max(maxZ, center.z);
+            }
+            double spreadX = maxX - minX;
+            double spreadY = maxY - minY;
+            double spreadZ = maxZ - minZ;
+            final Comparator<BoundingBox> comparator;
+            if (spreadX >= spreadY && spreadX >= spreadZ) {
+                comparator = Comparator.comparingDouble(box -> box.globalCenter.x);
+            } else if (spreadY >= spreadZ) {
+                comparator = Comparator.comparingDouble(box -> box.globalCenter.y);
+            } else {
+                comparator = Comparator.comparingDouble(box -> box.globalCenter.z);
+            }
+            Arrays.sort(boxes, start, end, comparator);
+            int middle = (start + end) / 2;
+            buildNode(start, middle);
+            nodeRightChild[node] = buildNode(middle, end);
+        }
+        return node;
+    }
+
+    /**
+     * Re-fits all nodes to the current positions of the boxes.  Since children always
+     * come after parents, we go backwards to ensure children are done first.
+     */
+    private void refit() {
+        for (int node = nodeCount - 1; node >= 0; --node) {
+            int rightChild = nodeRightChild[node];
+            if (rightChild == -1) {
+                setBoundsToBoxes(node);
+            } else {
+                int nodeOffset = node * 6;
+                int leftOffset = (node + 1) * 6;
+                int rightOffset = rightChild * 6;
+                for (int i = 0; i < 3; ++i) {
+                    nodeBounds[nodeOffset + i] = Math.min(nodeBounds[leftOffset + i], nodeBounds[rightOffset + i]);
+                    nodeBounds[nodeOffset + i + 3] = Math.max(nodeBounds[leftOffset + i + 3], nodeBounds[rightOffset + i + 3]);
+                }
+            }
+        }
+    }
+
+    private void setBoundsToBoxes(int node) {
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+        for (int i = nodeBoxStart[node]; i < nodeBoxEnd[node]; ++i) {
+            BoundingBox box = boxes[i];
+            minX = Math.min(minX, box.globalCenter.x - box.widthRadius);
+            minY = Math.min(minY, box.globalCenter.y - box.heightRadius);
+            minZ = Math.min(minZ, box.globalCenter.z - box.depthRadius);
+            maxX = Math.max(maxX, box.globalCenter.x + box.widthRadius);
+            maxY = Math.max(maxY, box.globalCenter.y + box.heightRadius);
+            maxZ = Math.max(maxZ, box.globalCenter.z + box.depthRadius);
+        }
+        int offset = node * 6;
+        nodeBounds[offset] = minX;
+        nodeBounds[offset + 1] = minY;
+        nodeBounds[offset + 2] = minZ;
+        nodeBounds[offset + 3] = maxX;
+        nodeBounds[offset + 4] = maxY;
+        nodeBounds[offset + 5] = maxZ;
+    }
+
+    /**
+     * Returns true if the current path intersects the bounds of the node.  This is a slab test, where the
+     * path is clipped to the min/max of each axis in turn.  If there's nothing left, there's no hit.
+     */
+    private boolean isPathInNode(int node) {
+        int offset = node * 6;
+        double pathMin = 0;
+        double pathMax = 1;
+        for (int axis = 0; axis < 3; ++axis) {
+            double min = nodeBounds[offset + axis];
+            double max = nodeBounds[offset + axis + 3];
+            if (pathDelta[axis] == 0) {
+                if (pathStart[axis] < min || pathStart[axis] > max) {
+                    return false;
+                }
+            } else {
+                double minFactor = (min - pathStart[axis]) / pathDelta[axis];
+                double maxFactor = (max - pathStart[axis]) / pathDelta[axis];
+                if (minFactor > maxFactor) {
+                    double temp = minFactor;
+                    minFactor = maxFactor;
+                    maxFactor = temp;
+                }
+                pathMin = Math.max(pathMin, minFactor);
+                pathMax = Math.min(pathMax, maxFactor);
+                if (pathMin > pathMax) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
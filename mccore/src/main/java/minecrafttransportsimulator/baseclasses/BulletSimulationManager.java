@@ -0,0 +1,103 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import minecrafttransportsimulator.entities.components.AEntityF_Multipart;
+import minecrafttransportsimulator.entities.instances.EntityBullet;
+import minecrafttransportsimulator.mcinterface.AWrapperWorld;
+import minecrafttransportsimulator.systems.ConfigSystem;
+
+/**
+ * Class that steps all server-side bullets in a world.  Rather than each bullet querying the world
+ * for the multiparts it could hit, bullets are grouped by the area they are in, and one query is done
+ * for the whole group.  Bullets then only check the multiparts from their group's query.
+ * <p>
+ * Bullets are also stepped under a time budget.  If the budget is exceeded, the remaining bullets are
+ * held for the next tick, where they are stepped before all others.  This makes bullets fall behind
+ * when there's too many of them, rather than holding up the whole server tick.
+ */
+public class BulletSimulationManager {
+    private static final double GROUP_AREA_SIZE = 64;
+    private final Map<Long, List<EntityBullet>> bulletGroups = new LinkedHashMap<>();
+    private final Set<EntityBullet> heldBullets = new LinkedHashSet<>();
+    private final List<AEntityF_Multipart<?>> groupMultiparts = new ArrayList<>();
+    private final Point3D groupCenter = new Point3D();
+
+    /**
+     * Steps all bullets in the passed-in manager.  Should only be called on servers.
+     */
+    public void tickBullets(EntityManager manager, AWrapperWorld world) {
+        world.beginProfiling("MTS_BulletSimulation", true);
+        bulletGroups.clear();
+        for (EntityBullet bullet : heldBullets) {
+            if (bullet.isValid) {
+                addToGroup(bullet);
+            }
+        }
+        for (EntityBullet bullet : manager.getEntitiesOfType(EntityBullet.class)) {
+            if (!heldBullets.contains(bullet)) {
+                addToGroup(bullet);
+            }
+        }
+        heldBullets.clear();
+
+        long budget = (long) (ConfigSystem.settings.general.bulletTickBudget.value * 1000000);
+        long startTime = System.nanoTime();
+        boolean overBudget = false;
+        for (List<EntityBullet> group : bulletGroups.values()) {
+            if (overBudget) {
+                heldBullets.addAll(group);
+                continue;
+            }
+
+            world.beginProfiling("BroadPhase", true);
+            populateGroupMultiparts(manager, group);
+            world.beginProfiling("BulletUpdates", false);
+            for (EntityBullet bullet : group) {
+                if (overBudget) {
+                    heldBullets.add(bullet);
+                } else if (bullet.isValid) {
+                    bullet.groupMultiparts = groupMultiparts;
+                    EntityManager.doTick(bullet);
+                    bullet.groupMultiparts = null;
+                    overBudget = budget > 0 && System.nanoTime() - startTime > budget;
+                }
+            }
+            world.endProfiling();
+        }
+        groupMultiparts.clear();
+        world.endProfiling();
+    }
+
+    private void addToGroup(EntityBullet bullet) {
+        long areaX = (long) Math.floor(bullet.position.x / GROUP_AREA_SIZE);
+        long areaZ = (long) Math.floor(bullet.position.z / GROUP_AREA_SIZE);
+        bulletGroups.computeIfAbsent((areaX << 32) | (areaZ & 0xFFFFFFFFL), k -> new ArrayList<>()).add(bullet);
+    }
+
+    /**
+     * Populates the multiparts that any bullet in the group could hit this tick.
+     * This is done with a box that contains all the bullets, expanded by how far they could move.
+     */
+    private void populateGroupMultiparts(EntityManager manager, List<EntityBullet> group) {
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+        for (EntityBullet bullet : group) {
+            double travelDistance = bullet.getMaxTravelDistance();
+            minX = Math.min(minX, bullet.position.x - travelDistance);
+            minY = Math.min(minY, bullet.position.y - travelDistance);
+            minZ = Math.min(minZ, bullet.position.z - travelDistance);
+            maxX = Math.max(maxX, bullet.position.x + travelDistance);
+            maxY = Math.max(maxY, bullet.position.y + travelDistance);
+            maxZ = Math.max(maxZ, bullet.position.z + travelDistance);
+        }
+        groupCenter.set((minX + maxX) / 2D, (minY + maxY) / 2D, (minZ + maxZ) / 2D);
+        groupMultiparts.clear();
+        manager.populateWithEntitiesInBounds(groupMultiparts, new BoundingBox(groupCenter, (maxX - minX) / 2D, (maxY - minY) / 2D, (maxZ - minZ) / 2D));
+    }
+}
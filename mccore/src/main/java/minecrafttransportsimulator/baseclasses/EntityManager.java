@@ -1,6 +1,7 @@
 package minecrafttransportsimulator.baseclasses;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -9,9 +10,11 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
 
 import minecrafttransportsimulator.entities.components.AEntityA_Base;
 import minecrafttransportsimulator.entities.components.AEntityA_Base.EntityAutoUpdateTime;
+import minecrafttransportsimulator.entities.components.AEntityB_Existing;
 import minecrafttransportsimulator.entities.components.AEntityC_Renderable;
 import minecrafttransportsimulator.entities.components.AEntityD_Definable;
 import minecrafttransportsimulator.entities.components.AEntityF_Multipart;
@@ -28,6 +31,8 @@ import minecrafttransportsimulator.mcinterface.IWrapperEntity;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.systems.CameraSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem.Section;
 
 /**
  * Class that manages entities in a world.
@@ -46,6 +51,8 @@ public abstract class EntityManager {
     private final ConcurrentHashMap<UUID, AEntityA_Base> trackedEntityMap = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, PartGun> gunMap = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, Map<Integer, EntityBullet>> bulletMap = new ConcurrentHashMap<>();
+    private final BulletSimulationManager bulletSimulation = new BulletSimulationManager();
+    private final EntityProximityGrid proximityGrid = new EntityProximityGrid();
     
     private static final byte hotloadCountdownPreset = 20;
     private static byte hotloadCountdown;
@@ -107,6 +114,7 @@ public abstract class EntityManager {
         if (entity.shouldSync()) {
             trackedEntityMap.put(entity.uniqueUUID, entity);
         }
+        proximityGrid.addEntity(entity);
     }
 
     /**
@@ -207,14 +215,25 @@ public abstract class EntityManager {
             //Need to do this before updating since defaults have to be set on all entities to ensure VMs run properly.
             world.beginProfiling("VariableModifiers", true);
             allNormalDefinableTickableEntities.forEach(definable -> definable.setVariableDefaults());
-            allNormalDefinableTickableEntities.forEach(definable -> definable.updateVariableModifiers());
+            allNormalDefinableTickableEntities.forEach(definable -> {
+                long profilingStartTime = ProfilingSystem.startSection();
+                definable.updateVariableModifiers();
+                ProfilingSystem.endSection(definable, Section.ANIMATION, profilingStartTime);
+            });
             world.endProfiling();
             
             allNormalTickableEntities.forEach(entity -> {
+                //Bullets on servers are stepped together after all other entities.
+                if (entity instanceof EntityBullet && !world.isClient()) {
+                    return;
+                }
                 if (!(entity instanceof AEntityG_Towable) || !(((AEntityG_Towable<?>) entity).blockMainUpdateCall())) {
                     doTick(entity);
                 }
             });
+            if (!world.isClient()) {
+                bulletSimulation.tickBullets(this, world);
+            }
 
             //Do hotload operations.
             //This operates on all threads concurrently as long as we're counting down.
@@ -223,7 +242,11 @@ public abstract class EntityManager {
             }
         } else {
             allPlayerDefinableTickableEntities.forEach(definable -> definable.setVariableDefaults());
-            allPlayerDefinableTickableEntities.forEach(definable -> definable.updateVariableModifiers());
+            allPlayerDefinableTickableEntities.forEach(definable -> {
+                long profilingStartTime = ProfilingSystem.startSection();
+                definable.updateVariableModifiers();
+                ProfilingSystem.endSection(definable, Section.ANIMATION, profilingStartTime);
+            });
             allPlayerTickableEntities.forEach(entity -> {
                 if (!(entity instanceof AEntityG_Towable) || !(((AEntityG_Towable<?>) entity).blockMainUpdateCall())) {
                     doTick(entity);
@@ -343,7 +366,8 @@ public abstract class EntityManager {
     }
 
     public static void doTick(AEntityA_Base entity) {
-        entity.world.beginProfiling("MTSEntity_" + entity.uniqueUUID, true);
+        long profilingStartTime = ProfilingSystem.startSection();
+        entity.world.beginProfiling(entity.profilingName, true);
         if (entity instanceof AEntityD_Definable) {
             AEntityD_Definable<?> definable = (AEntityD_Definable<?>) entity;
             entity.world.beginProfiling("MainUpdate", false);
@@ -354,7 +378,27 @@ public abstract class EntityManager {
         } else {
             entity.update();
         }
+        ((EntityManager) entity.world).proximityGrid.updateEntity(entity);
         entity.world.endProfiling();
+        ProfilingSystem.endSection(entity, Section.TICK, profilingStartTime);
+    }
+
+    /**
+     * Adds all entities of the passed-in class within the passed-in distance of the position to the collection.
+     * This only checks entities in the area around the position, so is far quicker than checking all
+     * entities from {@link #getEntitiesOfType(Class)}.  The class must MATCH the class of the entities.
+     */
+    public <EntityType extends AEntityB_Existing> void populateWithEntitiesNear(Collection<? super EntityType> collection, Class<EntityType> entityClass, Point3D position, double distance) {
+        proximityGrid.populateWithEntitiesNear(collection, entityClass, getEntitiesOfType(entityClass), position, distance);
+    }
+
+    /**
+     * Returns the closest entity of the passed-in class within the passed-in distance of the position that
+     * matches the filter, or null if there isn't one.  Like {@link #populateWithEntitiesNear(Collection, Class, Point3D, double)},
+     * this only checks entities in the area around the position.
+     */
+    public <EntityType extends AEntityB_Existing> EntityType getNearestEntity(Class<EntityType> entityClass, Point3D position, double distance, Predicate<EntityType> filter) {
+        return proximityGrid.getNearestEntity(entityClass, getEntitiesOfType(entityClass), position, distance, filter);
     }
 
     /**
@@ -371,7 +415,7 @@ public abstract class EntityManager {
         for (AEntityF_Multipart<?> multipart : multiparts) {
             if (multipart.encompassingBox.intersects(vectorBounds) && multipart.canBeClicked()) {
                 //Could have hit this multipart, check if and what we did via raytracing.
-                for (BoundingBox box : multipart.allCollisionBoxes) {
+                for (BoundingBox box : multipart.getCollisionBoxesOnPath(startPoint, endPoint)) {
                     if (box.collisionTypes.contains(CollisionType.CLICK) && box.intersects(vectorBounds)) {
                         BoundingBoxHitResult intersectionPoint = box.getIntersection(startPoint, endPoint);
                         if (intersectionPoint != null) {
@@ -406,6 +450,7 @@ public abstract class EntityManager {
             renderableEntities.remove(entity);
         }
         entitiesByClass.get(entity.getClass()).remove(entity);
+        proximityGrid.removeEntity(entity);
         if (entity.shouldSync()) {
             trackedEntityMap.remove(entity.uniqueUUID);
         }
@@ -0,0 +1,141 @@
+package minecrafttransportsimulator.baseclasses;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.entities.components.AEntityB_Existing;
+
+/**
+ * Grid that tracks which area of the world entities are in.  This allows finding entities near
+ * a point without having to check every entity in the world.  Entities are only tracked for classes that
+ * have been queried, so classes nothing looks for don't cost anything.  Like
+ * {@link EntityManager#getEntitiesOfType(Class)}, the class must MATCH the class of the entity.
+ * <p>
+ * Entities are moved between cells as they move, which happens after they update.
+ * So entities may be one tick out of date if they move outside of their update.
+ */
+public class EntityProximityGrid {
+    private static final double CELL_SIZE = 16;
+    private final Map<Class<? extends AEntityA_Base>, ClassGrid> classGrids = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the entity to the grid, if its class is being tracked.
+     */
+    public void addEntity(AEntityA_Base entity) {
+        ClassGrid grid = classGrids.get(entity.getClass());
+        if (grid != null) {
+            grid.add((AEntityB_Existing) entity);
+        }
+    }
+
+    /**
+     * Removes the entity from the grid, if its class is being tracked.
+     */
+    public void removeEntity(AEntityA_Base entity) {
+        ClassGrid grid = classGrids.get(entity.getClass());
+        if (grid != null) {
+            grid.remove((AEntityB_Existing) entity);
+        }
+    }
+
+    /**
+     * Moves the entity to the cell for its current position, if its class is being tracked.
+     */
+    public void updateEntity(AEntityA_Base entity) {
+        ClassGrid grid = classGrids.get(entity.getClass());
+        if (grid != null) {
+            AEntityB_Existing existingEntity = (AEntityB_Existing) entity;
+            Long cell = grid.entityCells.get(existingEntity);
+            if (cell != null && cell != getCell(existingEntity.position.x, existingEntity.position.z)) {
+                grid.remove(existingEntity);
+                grid.add(existingEntity);
+            }
+        }
+    }
+
+    /**
+     * Adds all entities of the passed-in class within the passed-in distance of the position to the collection.
+     * The passed-in entities are all entities of the class in the world, and are used to start tracking the class
+     * if this is the first time it has been queried.
+     */
+    @SuppressWarnings("unchecked")
+    public <EntityType extends AEntityB_Existing> void populateWithEntitiesNear(Collection<? super EntityType> collection, Class<EntityType> entityClass, Collection<EntityType> allEntities, Point3D position, double distance) {
+        ClassGrid grid = classGrids.computeIfAbsent(entityClass, k -> {
+            ClassGrid newGrid = new ClassGrid();
+            allEntities.forEach(newGrid::add);
+            return newGrid;
+        });
+        long minCellX = (long) Math.floor((position.x - distance) / CELL_SIZE);
+        long maxCellX = (long) Math.floor((position.x + distance) / CELL_SIZE);
+        long minCellZ = (long) Math.floor((position.z - distance) / CELL_SIZE);
+        long maxCellZ = (long) Math.floor((position.z + distance) / CELL_SIZE);
+        for (long cellX = minCellX; cellX <= maxCellX; ++cellX) {
+            for (long cellZ = minCellZ; cellZ <= maxCellZ; ++cellZ) {
+                Set<AEntityB_Existing> cellEntities = grid.cells.get(getCell(cellX, cellZ));
+                if (cellEntities != null) {
+                    for (AEntityB_Existing entity : cellEntities) {
+                        if (entity.position.isDistanceToCloserThan(position, distance)) {
+                            collection.add((EntityType) entity);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the closest entity of the passed-in class within the passed-in distance of the position that
+     * matches the filter, or null if there isn't one.  See {@link #populateWithEntitiesNear(Collection, Class, Collection, Point3D, double)}
+     * for how the entity class is handled.
+     */
+    public <EntityType extends AEntityB_Existing> EntityType getNearestEntity(Class<EntityType> entityClass, Collection<EntityType> allEntities, Point3D position, double distance, Predicate<EntityType> filter) {
+        List<EntityType> nearbyEntities = new ArrayList<>();
+        populateWithEntitiesNear(nearbyEntities, entityClass, allEntities, position, distance);
+        EntityType nearestEntity = null;
+        double nearestDistance = distance;
+        for (EntityType entity : nearbyEntities) {
+            double entityDistance = entity.position.distanceTo(position);
+            if (entityDistance < nearestDistance && filter.test(entity)) {
+                nearestEntity = entity;
+                nearestDistance = entityDistance;
+            }
+        }
+        return nearestEntity;
+    }
+
+    private static long getCell(double x, double z) {
+        return getCell((long) Math.floor(x / CELL_SIZE), (long) Math.floor(z / CELL_SIZE));
+    }
+
+    private static long getCell(long cellX, long cellZ) {
+        return (cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static class ClassGrid {
+        private final Map<Long, Set<AEntityB_Existing>> cells = new ConcurrentHashMap<>();
+        private final Map<AEntityB_Existing, Long> entityCells = new ConcurrentHashMap<>();
+
+        private void add(AEntityB_Existing entity) {
+            long cell = getCell(entity.position.x, entity.position.z);
+            cells.computeIfAbsent(cell, k -> ConcurrentHashMap.newKeySet()).add(entity);
+            entityCells.put(entity, cell);
+        }
+
+        private void remove(AEntityB_Existing entity) {
+            Long cell = entityCells.remove(entity);
+            if (cell != null) {
+                Set<AEntityB_Existing> cellEntities = cells.get(cell);
+                cellEntities.remove(entity);
+                if (cellEntities.isEmpty()) {
+                    cells.remove(cell);
+                }
+            }
+        }
+    }
+}
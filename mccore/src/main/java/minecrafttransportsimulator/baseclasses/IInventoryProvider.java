@@ -1,5 +1,7 @@
 package minecrafttransportsimulator.baseclasses;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -233,21 +235,51 @@ public interface IInventoryProvider {
     }
 
     /**
-     * Returns true if this inventory has all the materials to make the pack-based item..  Normally uses the output
-     * of {@link PackMaterialComponent#parseFromJSON(AItemPack, int, boolean, boolean, boolean)}, but can use any input.
+     * Returns an index of all the non-empty slots in this inventory, keyed by the name of the item in them.
+     * This is used for material checks, as an item can only be a material if it has the same name as one
+     * of the material's possible items.  This lets us only check those slots rather than all slots.
+     * By default, this is created each call, but inventories that know when they change may cache it.
      */
-    default boolean hasMaterials(List<PackMaterialComponent> materials) {
-        for (PackMaterialComponent material : materials) {
-            int requiredMaterialCount = material.qty;
-            for (IWrapperItemStack materialStack : material.possibleItems) {
-                for (int i = 0; i < getSize(); ++i) {
+    default Map<String, List<Integer>> getMaterialIndex() {
+        Map<String, List<Integer>> materialIndex = new HashMap<>();
+        for (int i = 0; i < getSize(); ++i) {
+            IWrapperItemStack stack = getStack(i);
+            if (!stack.isEmpty()) {
+                materialIndex.computeIfAbsent(InterfaceManager.coreInterface.getStackItemName(stack), k -> new ArrayList<>()).add(i);
+            }
+        }
+        return materialIndex;
+    }
+
+    /**
+     * Returns the number of items in this inventory that match the passed-in material, using the passed-in
+     * index from {@link #getMaterialIndex()}.
+     */
+    default int getMaterialCount(PackMaterialComponent material, Map<String, List<Integer>> materialIndex) {
+        int materialCount = 0;
+        for (int j = 0; j < material.possibleItems.size(); ++j) {
+            List<Integer> slots = materialIndex.get(material.possibleItemNames.get(j));
+            if (slots != null) {
+                IWrapperItemStack materialStack = material.possibleItems.get(j);
+                for (int i : slots) {
                     IWrapperItemStack testStack = getStack(i);
                     if (InterfaceManager.coreInterface.isOredictMatch(testStack, materialStack)) {
-                        requiredMaterialCount -= testStack.getSize();
+                        materialCount += testStack.getSize();
                     }
                 }
             }
-            if (requiredMaterialCount > 0) {
+        }
+        return materialCount;
+    }
+
+    /**
+     * Returns true if this inventory has all the materials to make the pack-based item..  Normally uses the output
+     * of {@link PackMaterialComponent#parseFromJSON(AItemPack, int, boolean, boolean, boolean)}, but can use any input.
+     */
+    default boolean hasMaterials(List<PackMaterialComponent> materials) {
+        Map<String, List<Integer>> materialIndex = getMaterialIndex();
+        for (PackMaterialComponent material : materials) {
+            if (getMaterialCount(material, materialIndex) < material.qty) {
                 return false;
             }
         }
@@ -259,16 +291,7 @@ public interface IInventoryProvider {
      */
     default boolean hasSpecificMaterial(AItemPack<?> item, int recipeIndex, int index, boolean includeMain, boolean includeSub, boolean forRepair, boolean includeRepair) {
         PackMaterialComponent material = PackMaterialComponent.parseFromJSON(item, recipeIndex, includeMain, includeSub, forRepair, includeRepair).get(index);
-        int requiredMaterialCount = material.qty;
-        for (IWrapperItemStack materialStack : material.possibleItems) {
-            for (int i = 0; i < getSize(); ++i) {
-                IWrapperItemStack testStack = getStack(i);
-                if (InterfaceManager.coreInterface.isOredictMatch(testStack, materialStack)) {
-                    requiredMaterialCount -= testStack.getSize();
-                }
-            }
-        }
-        return requiredMaterialCount > 0;
+        return getMaterialCount(material, getMaterialIndex()) < material.qty;
     }
 
     /**
@@ -279,22 +302,29 @@ public interface IInventoryProvider {
      * Note that for repair recipes, this will not remove the implicit item to repair.
      */
     default void removeMaterials(List<PackMaterialComponent> materials) {
+        Map<String, List<Integer>> materialIndex = getMaterialIndex();
         for (PackMaterialComponent material : materials) {
             int requiredMaterialCount = material.qty;
-            for (IWrapperItemStack materialStack : material.possibleItems) {
-                for (int i = 0; i < getSize(); ++i) {
-                    IWrapperItemStack testStack = getStack(i);
-                    if (InterfaceManager.coreInterface.isOredictMatch(testStack, materialStack)) {
-                        int amountToRemove = requiredMaterialCount;
-                        if (testStack.getSize() < amountToRemove) {
-                            amountToRemove = testStack.getSize();
+            for (int j = 0; j < material.possibleItems.size() && requiredMaterialCount > 0; ++j) {
+                List<Integer> slots = materialIndex.get(material.possibleItemNames.get(j));
+                if (slots != null) {
+                    IWrapperItemStack materialStack = material.possibleItems.get(j);
+                    for (int i : slots) {
+                        IWrapperItemStack testStack = getStack(i);
+                        if (InterfaceManager.coreInterface.isOredictMatch(testStack, materialStack)) {
+                            int amountToRemove = requiredMaterialCount;
+                            if (testStack.getSize() < amountToRemove) {
+                                amountToRemove = testStack.getSize();
+                            }
+                            if (amountToRemove > 0) {
+                                removeFromSlot(i, amountToRemove);
+                                requiredMaterialCount -= amountToRemove;
+                            }
+                        }
+                        if (requiredMaterialCount == 0) {
+                            //Don't need to search further since we got everything.
+                            break;
                         }
-                        removeStack(testStack, amountToRemove, false);
-                        requiredMaterialCount -= amountToRemove;
-                    }
-                    if (requiredMaterialCount == 0) {
-                        //Don't need to search further since we got everything.
-                        break;
                     }
                 }
             }
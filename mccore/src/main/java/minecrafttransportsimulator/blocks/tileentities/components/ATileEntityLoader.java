@@ -48,15 +48,8 @@ public abstract class ATileEntityLoader extends TileEntityDecor {
 
     protected void updateNearestPart() {
         PartInteractable nearestPart = null;
-        double nearestDistance = 10;
         if (canOperate()) {
-            for (PartInteractable interactablePart : world.getEntitiesOfType(PartInteractable.class)) {
-                if (canLoadPart(interactablePart)) {
-                    if (interactablePart.position.isDistanceToCloserThan(position, nearestDistance)) {
-                        nearestPart = interactablePart;
-                    }
-                }
-            }
+            nearestPart = world.getNearestEntity(PartInteractable.class, position, 10, this::canLoadPart);
         }
         if (nearestPart != null) {
             connectToPart(nearestPart);
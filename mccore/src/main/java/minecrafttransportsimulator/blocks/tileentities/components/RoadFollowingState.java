@@ -116,7 +116,9 @@ public class RoadFollowingState {
      * otherwise you may get out of the curve's bounds.
      */
     public double getCurrentYaw() {
-        double rotation = curve.getRotationAt(currentSegment).angles.y;
+        Point3D currentAngles = new Point3D();
+        curve.setPointToAnglesAt(currentAngles, currentSegment);
+        double rotation = currentAngles.y;
         if (!goingForwards) {
             rotation = rotation + 180;
         }
@@ -129,7 +131,9 @@ public class RoadFollowingState {
      * otherwise you may get out of the curve's bounds.
      */
     public double getCurrentRoll() {
-        double rotation = curve.getRotationAt(currentSegment).angles.z;
+        Point3D currentAngles = new Point3D();
+        curve.setPointToAnglesAt(currentAngles, currentSegment);
+        double rotation = currentAngles.z;
         if (!goingForwards) {
             rotation = -rotation;
         }
@@ -150,15 +150,7 @@ public abstract class ATileEntityFuelPump extends TileEntityDecor {
         //We don't have a vehicle connected.  Try to connect one now.
         if (connectedVehicle == null) {
             //Get the closest vehicle within a 16-block radius.
-            EntityVehicleF_Physics nearestVehicle = null;
-            double lowestDistance = 16D;
-            for (EntityVehicleF_Physics testVehicle : world.getEntitiesOfType(EntityVehicleF_Physics.class)) {
-                double vehicleDistance = testVehicle.position.distanceTo(position);
-                if (vehicleDistance < lowestDistance) {
-                    lowestDistance = vehicleDistance;
-                    nearestVehicle = testVehicle;
-                }
-            }
+            EntityVehicleF_Physics nearestVehicle = world.getNearestEntity(EntityVehicleF_Physics.class, position, 16D, vehicle -> true);
 
             //Have a vehicle, try to connect to it.
             if (nearestVehicle != null) {
@@ -3,9 +3,12 @@ package minecrafttransportsimulator.blocks.tileentities.instances;
 import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import minecrafttransportsimulator.baseclasses.BezierCurve;
 import minecrafttransportsimulator.baseclasses.BoundingBox;
@@ -14,10 +17,10 @@ import minecrafttransportsimulator.baseclasses.Point3D;
 import minecrafttransportsimulator.baseclasses.RotationMatrix;
 import minecrafttransportsimulator.baseclasses.TransformationMatrix;
 import minecrafttransportsimulator.blocks.components.ABlockBase;
-import minecrafttransportsimulator.blocks.components.ABlockBase.Axis;
 import minecrafttransportsimulator.blocks.instances.BlockCollision;
 import minecrafttransportsimulator.blocks.tileentities.components.ATileEntityBase;
 import minecrafttransportsimulator.blocks.tileentities.components.RoadClickData;
+import minecrafttransportsimulator.blocks.tileentities.components.RoadFollowingState;
 import minecrafttransportsimulator.blocks.tileentities.components.RoadLane;
 import minecrafttransportsimulator.blocks.tileentities.components.RoadLaneConnection;
 import minecrafttransportsimulator.items.instances.ItemRoadComponent;
@@ -59,6 +62,8 @@ public class TileEntityRoad extends ATileEntityBase<JSONRoadComponent> {
     //Static variables based on core definition.
     public BezierCurve dynamicCurve;
     public final List<RoadLane> lanes = new ArrayList<>();
+    private static final double LANE_POINT_CELL_SIZE = 2;
+    private final Map<Long, List<LanePoint>> lanePointCells = new HashMap<>();
 
     //Dynamic variables based on states.
     private boolean isActive;
@@ -236,6 +241,61 @@ public class TileEntityRoad extends ATileEntityBase<JSONRoadComponent> {
                 }
             }
         }
+
+        //Index all lane points by the area they are in.  This lets vehicles find the lane they are on quickly.
+        lanePointCells.clear();
+        int pointIndex = 0;
+        for (RoadLane lane : lanes) {
+            for (BezierCurve curve : lane.curves) {
+                for (float f = 0; f < curve.pathLength; ++f) {
+                    LanePoint lanePoint = new LanePoint(pointIndex++, lane, curve, f);
+                    lanePointCells.computeIfAbsent(getLanePointCell((long) Math.floor(lanePoint.point.x / LANE_POINT_CELL_SIZE), (long) Math.floor(lanePoint.point.z / LANE_POINT_CELL_SIZE)), k -> new ArrayList<>()).add(lanePoint);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the following state for the lane point within 1 block of the passed-in position that is in-line
+     * with the passed-in yaw, or null if there is no such point.  If multiple points match, the point that comes first
+     * in lane, curve, and then curve segment order is returned.  Points are at every block along their curve.
+     */
+    public RoadFollowingState getFollowingStateAt(Point3D position, double yaw) {
+        LanePoint foundPoint = null;
+        boolean foundSameDirection = false;
+        Point3D testAngles = new Point3D();
+        long minCellX = (long) Math.floor((position.x - 1) / LANE_POINT_CELL_SIZE);
+        long maxCellX = (long) Math.floor((position.x + 1) / LANE_POINT_CELL_SIZE);
+        long minCellZ = (long) Math.floor((position.z - 1) / LANE_POINT_CELL_SIZE);
+        long maxCellZ = (long) Math.floor((position.z + 1) / LANE_POINT_CELL_SIZE);
+        for (long cellX = minCellX; cellX <= maxCellX; ++cellX) {
+            for (long cellZ = minCellZ; cellZ <= maxCellZ; ++cellZ) {
+                List<LanePoint> cellPoints = lanePointCells.get(getLanePointCell(cellX, cellZ));
+                if (cellPoints != null) {
+                    for (LanePoint lanePoint : cellPoints) {
+                        if (foundPoint != null && lanePoint.index > foundPoint.index) {
+                            //Points are in order in each cell, so no later point here can be better.
+                            break;
+                        }
+                        if (lanePoint.point.isDistanceToCloserThan(position, 1)) {
+                            lanePoint.curve.setPointToAnglesAt(testAngles, lanePoint.segment);
+                            double yawDelta = Math.abs(testAngles.getClampedYDelta(yaw));
+                            boolean sameDirection = yawDelta < 10;
+                            if (sameDirection || yawDelta > 170) {
+                                foundPoint = lanePoint;
+                                foundSameDirection = sameDirection;
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return foundPoint != null ? new RoadFollowingState(foundPoint.lane, foundPoint.curve, foundSameDirection, foundPoint.segment) : null;
+    }
+
+    private static long getLanePointCell(long cellX, long cellZ) {
+        return (cellX << 32) | (cellZ & 0xFFFFFFFFL);
     }
 
     /**
@@ -248,34 +308,24 @@ public class TileEntityRoad extends ATileEntityBase<JSONRoadComponent> {
         collisionBlockOffsets.clear();
         collidingBlockOffsets.clear();
         Map<Point3D, Integer> collisionHeightMap = new HashMap<>();
+        //Many sample points fall in the same block, so track which blocks we've checked to only check them once.
+        Set<Long> checkedBlocks = new HashSet<>();
         if (definition.road.type.equals(RoadComponent.CORE_DYNAMIC)) {
             //Get all the points that make up our collision points for our dynamic curve.
             //If we find any colliding points, note them.
             Point3D testOffset = new Point3D();
             float segmentDelta = (float) (definition.road.roadWidth / (Math.floor(definition.road.roadWidth) + 1));
             for (float f = 0; f < dynamicCurve.pathLength; f += 0.1) {
+                RotationMatrix testRotation = dynamicCurve.getRotationAt(f);
                 for (float offset = 0; offset <= definition.road.roadWidth; offset += segmentDelta) {
-                    testOffset.set(offset, 0, 0).rotate(dynamicCurve.getRotationAt(f));
+                    testOffset.set(offset, 0, 0).rotate(testRotation);
                     dynamicCurve.offsetPointByPositionAt(testOffset, f);
                     testOffset.subtract(position).add(0, definition.road.collisionHeight / 16F, 0);
-                    Point3D testPoint = new Point3D((int) testOffset.x, (int) Math.floor(testOffset.y), (int) testOffset.z);
-
-                    //If we don't have a block in this position, check if we need one.
-                    if (!testPoint.isZero() && !collisionBlockOffsets.contains(testPoint) && !collidingBlockOffsets.contains(testPoint)) {
-                        //Offset the point to the global cordinate space, get the block, and offset back.
-                        testPoint.add(position);
-                        if (world.isAir(testPoint)) {
-                            //Need a collision box here.
-                            testPoint.subtract(position);
-                            int collisionBoxIndex = (int) ((testOffset.y - testPoint.y) * 16);
-                            collisionBlockOffsets.add(testPoint);
-
-                            collisionHeightMap.put(testPoint, collisionBoxIndex);
-                        } else if (!(world.getBlock(testPoint) instanceof BlockCollision)) {
-                            //Some block is blocking us that's not part of a road.  Flag it.
-                            testPoint.subtract(position);
-                            collidingBlockOffsets.add(testPoint);
-                        }
+                    int blockX = (int) testOffset.x;
+                    int blockY = (int) Math.floor(testOffset.y);
+                    int blockZ = (int) testOffset.z;
+                    if (checkedBlocks.add(getBlockKey(blockX, blockY, blockZ))) {
+                        checkCollisionPoint(new Point3D(blockX, blockY, blockZ), (int) ((testOffset.y - blockY) * 16), collisionHeightMap);
                     }
                 }
             }
@@ -287,20 +337,8 @@ public class TileEntityRoad extends ATileEntityBase<JSONRoadComponent> {
                         Point3D testPoint = new Point3D(x, collisionArea.firstCorner.y, z).rotate(orientation);
                         testPoint.x = (int) testPoint.x;
                         testPoint.z = (int) testPoint.z;
-
-                        if (!testPoint.isZero() && !collisionBlockOffsets.contains(testPoint) && !collidingBlockOffsets.contains(testPoint)) {
-                            //Offset the point to the global cordinate space, get the block, and offset back.
-                            testPoint.add(position);
-                            if (world.isAir(testPoint)) {
-                                //Need a collision box here.
-                                testPoint.subtract(position);
-                                collisionBlockOffsets.add(testPoint);
-                                collisionHeightMap.put(testPoint, collisionArea.collisionHeight == 16 ? 15 : collisionArea.collisionHeight);
-                            } else if (!(world.getBlock(testPoint) instanceof BlockCollision)) {
-                                //Some block is blocking us that's not part of a road.  Flag it.
-                                testPoint.subtract(position);
-                                collidingBlockOffsets.add(testPoint);
-                            }
+                        if (checkedBlocks.add(getBlockKey((int) testPoint.x, (int) Math.floor(testPoint.y), (int) testPoint.z))) {
+                            checkCollisionPoint(testPoint, collisionArea.collisionHeight == 16 ? 15 : collisionArea.collisionHeight, collisionHeightMap);
                         }
                     }
                 }
@@ -309,6 +347,32 @@ public class TileEntityRoad extends ATileEntityBase<JSONRoadComponent> {
         return collisionHeightMap;
     }
 
+    /**
+     * Helper method to check if the passed-in offset needs a collision block, or is blocked.
+     * Adds the offset to the appropriate list, and to the map with the passed-in height if it needs a block.
+     */
+    private void checkCollisionPoint(Point3D testPoint, int collisionHeight, Map<Point3D, Integer> collisionHeightMap) {
+        //If we don't have a block in this position, check if we need one.
+        if (!testPoint.isZero()) {
+            //Offset the point to the global cordinate space, get the block, and offset back.
+            testPoint.add(position);
+            if (world.isAir(testPoint)) {
+                //Need a collision box here.
+                testPoint.subtract(position);
+                collisionBlockOffsets.add(testPoint);
+                collisionHeightMap.put(testPoint, collisionHeight);
+            } else if (!(world.getBlock(testPoint) instanceof BlockCollision)) {
+                //Some block is blocking us that's not part of a road.  Flag it.
+                testPoint.subtract(position);
+                collidingBlockOffsets.add(testPoint);
+            }
+        }
+    }
+
+    private static long getBlockKey(int x, int y, int z) {
+        return ((x & 0x1FFFFFL) << 42) | ((y & 0x1FFFFFL) << 21) | (z & 0x1FFFFFL);
+    }
+
     /**
      * Method to spawn collision boxes for this road structure.
      * Returns true and makes this TE active if all the boxes could be spawned.
@@ -317,9 +381,11 @@ public class TileEntityRoad extends ATileEntityBase<JSONRoadComponent> {
     public boolean spawnCollisionBlocks(IWrapperPlayer player) {
         Map<Point3D, Integer> collisionHeightMap = generateCollisionPoints();
         if (collidingBlockOffsets.isEmpty() || (player.isCreative() && player.isOP())) {
+            Map<Point3D, ABlockBase> collisionBlocks = new LinkedHashMap<>();
             for (Point3D offset : collisionBlockOffsets) {
-                world.setBlock(BlockCollision.blockInstances.get(collisionHeightMap.get(offset)), offset.copy().add(position), null, Axis.UP);
+                collisionBlocks.put(offset.copy().add(position), BlockCollision.blockInstances.get(collisionHeightMap.get(offset)));
             }
+            world.setBlocks(collisionBlocks);
             collidingBlockOffsets.clear();
             setActive(true);
             InterfaceManager.packetInterface.sendToAllClients(new PacketTileEntityRoadCollisionUpdate(this));
@@ -332,6 +398,12 @@ public class TileEntityRoad extends ATileEntityBase<JSONRoadComponent> {
         }
     }
 
+    @Override
+    protected boolean isModelLoading() {
+        //We don't use the main model, so we never need to wait on it.
+        return false;
+    }
+
     @Override
     protected void renderModel(TransformationMatrix transform, boolean blendingEnabled, float partialTicks) {
         //Don't call super, we don't want to render the normal way.
@@ -713,4 +785,23 @@ public class TileEntityRoad extends ATileEntityBase<JSONRoadComponent> {
         @JSONDescription("The core component.  This must be placed down before any other road components.  This is a dynamic component with flexible collision and lane paths, but defined lane counts and offsets.")
         CORE_DYNAMIC
     }
+
+    /**
+     * A point along a lane curve, for finding lanes by position.
+     */
+    private static class LanePoint {
+        private final int index;
+        private final RoadLane lane;
+        private final BezierCurve curve;
+        private final float segment;
+        private final Point3D point = new Point3D();
+
+        private LanePoint(int index, RoadLane lane, BezierCurve curve, float segment) {
+            this.index = index;
+            this.lane = lane;
+            this.curve = curve;
+            this.segment = segment;
+            curve.setPointToPositionAt(point, segment);
+        }
+    }
 }
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
+import minecrafttransportsimulator.systems.ProfilingSystem;
 
 /**
  * Base entity class.  This class is the base for all in-game entities.  What these
@@ -38,6 +39,14 @@ public abstract class AEntityA_Base {
      * Counter for how many ticks this entity has existed in the world.  Realistically, it's the number of update cycles.
      **/
     public long ticksExisted;
+    /**
+     * Name of this entity in the world profiler.  Cached as entities are profiled every tick.
+     **/
+    public final String profilingName;
+    /**
+     * Profile for this entity in the {@link ProfilingSystem}.  Only used when profiling is active.
+     **/
+    public ProfilingSystem.Profile profile;
 
     public static String UNIQUE_UUID_TAG_NAME = "uniqueUUID";
 
@@ -53,6 +62,7 @@ public abstract class AEntityA_Base {
         } else {
             this.uniqueUUID = UUID.randomUUID();
         }
+        this.profilingName = "MTSEntity_" + uniqueUUID;
     }
 
     /**
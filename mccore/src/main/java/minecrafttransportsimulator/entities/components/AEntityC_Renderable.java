@@ -102,7 +102,8 @@ public abstract class AEntityC_Renderable extends AEntityB_Existing {
             }
 
             //Render bounding boxes.
-            if (!blendingEnabled && InterfaceManager.renderingInterface.shouldRenderBoundingBoxes()) {
+            //These are also rendered as a placeholder if our model is still loading.
+            if (!blendingEnabled && (InterfaceManager.renderingInterface.shouldRenderBoundingBoxes() || isModelLoading())) {
                 world.beginProfiling("BoundingBoxes", true);
                 renderBoundingBoxes(translatedMatrix);
                 world.endProfiling();
@@ -124,6 +125,14 @@ public abstract class AEntityC_Renderable extends AEntityB_Existing {
         return ticksExisted == 0;
     }
 
+    /**
+     * Returns true if the model for this entity is still loading and can't be rendered yet.
+     * If so, the bounding boxes of this entity will be rendered in its place.
+     */
+    protected boolean isModelLoading() {
+        return false;
+    }
+
     /**
      * Called to render the main model.  At this point the matrix state will be aligned
      * to the position and rotation of the entity relative to the player-camera.
@@ -107,6 +107,19 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
     private float lastPartialTickParticlesSpawned;
     private static final Point3D particleSpawningPosition = new Point3D();
 
+    /**
+     * The current update tier of this entity.  Set every frame on clients based on the distance to the camera.
+     * Used to reduce how often animations, instruments, text, lights, and particles are updated on far-away entities.
+     **/
+    public UpdateTier updateTier = UpdateTier.FULL;
+    private boolean isLODUpdateFrame = true;
+    private long lastTickLODUpdated = -1;
+    private float lastPartialTickLODUpdated;
+    private int lodFrameCounter = hashCode() & 0xFFFF;
+    private long lastTickVariableTextUpdated = -1;
+    /**Radius, in blocks, of an entity that uses the configured LOD distances as-is.  Larger entities scale them up.**/
+    private static final double LOD_REFERENCE_RADIUS = 2.0;
+
     /**
      * Maps animated (model) object names to their JSON bits for this entity.  Used for model lookups as the same model might be used on multiple JSONs,
      * and iterating through the entire rendering section of the JSON is time-consuming.
@@ -341,7 +354,7 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
         if (repairCooldownTicks > 0) {
             --repairCooldownTicks;
         }
-        if (world.isClient()) {
+        if (world.isClient() && updateTier != UpdateTier.FROZEN) {
             spawnParticles(0);
         }
         if (repaintedVar.isActive) {
@@ -409,7 +422,9 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
      */
     public void doPostUpdateLogic() {
         //Update value-based text.  Only do this on clients as servers won't render this text.
-        if (world.isClient() && !text.isEmpty()) {
+        //Far-away entities update their text less often, or not at all, depending on their tier.
+        if (world.isClient() && !text.isEmpty() && shouldUpdateVariableText()) {
+            lastTickVariableTextUpdated = ticksExisted;
             for (Entry<JSONText, String> textEntry : text.entrySet()) {
                 JSONText textDef = textEntry.getKey();
                 if (textDef.variableName != null) {
@@ -1279,20 +1294,125 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
         }
     }
 
+    /**
+     * Returns true if this entity should do render-based updates this frame.  This is always true for entities
+     * in the {@link UpdateTier#FULL} tier, true every Nth frame for those in the {@link UpdateTier#REDUCED} tier,
+     * and false for those in the {@link UpdateTier#FROZEN} tier.  Things that are skipped should keep their
+     * prior state and render with it.
+     */
+    public boolean isLODUpdateFrame() {
+        return isLODUpdateFrame;
+    }
+
+    /**
+     * Updates the {@link #updateTier} for this entity, and if this frame is an update frame.  Only does
+     * the update once per frame, as shaders may have us render multiple times.  If this entity takes its
+     * LOD from another entity, that entity is updated first, and its tier and update frames are used as-is.
+     */
+    private void updateLOD(float partialTicks) {
+        if (ticksExisted != lastTickLODUpdated || partialTicks != lastPartialTickLODUpdated) {
+            lastTickLODUpdated = ticksExisted;
+            lastPartialTickLODUpdated = partialTicks;
+            AEntityD_Definable<?> lodMaster = getLODMaster();
+            if (lodMaster != this) {
+                lodMaster.updateLOD(partialTicks);
+            }
+            UpdateTier newTier = lodMaster != this ? lodMaster.updateTier : computeUpdateTier();
+            if (newTier == UpdateTier.FROZEN && updateTier != UpdateTier.FROZEN) {
+                //Clear particle states.  We don't want to spawn all the particles we missed once we un-freeze.
+                lastTickParticleSpawned.clear();
+                lastPositionParticleSpawned.clear();
+            }
+            updateTier = newTier;
+            switch (updateTier) {
+                case FULL: {
+                    isLODUpdateFrame = true;
+                    break;
+                }
+                case REDUCED: {
+                    isLODUpdateFrame = lodMaster != this ? lodMaster.isLODUpdateFrame : ++lodFrameCounter % Math.max(ConfigSystem.client.renderingSettings.lodReducedInterval.value, 1) == 0;
+                    break;
+                }
+                case FROZEN: {
+                    isLODUpdateFrame = false;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the entity this entity takes its LOD from.  By default, this is this entity.  Entities that are
+     * part of another entity should return that entity, so they update on the same frames as it does.
+     */
+    protected AEntityD_Definable<?> getLODMaster() {
+        return this;
+    }
+
+    /**
+     * Returns the tier this entity should be in for this frame.  By default, this is based on the distance
+     * from the camera, with the distances scaled by {@link #getLODRadius()}.
+     */
+    protected UpdateTier computeUpdateTier() {
+        int reducedDistance = ConfigSystem.client.renderingSettings.lodReducedDistance.value;
+        int frozenDistance = ConfigSystem.client.renderingSettings.lodFrozenDistance.value;
+        if (reducedDistance <= 0 && frozenDistance <= 0) {
+            return UpdateTier.FULL;
+        }
+        double sizeFactor = Math.max(1, getLODRadius() / LOD_REFERENCE_RADIUS);
+        double distance = InterfaceManager.clientInterface.getCameraPosition().distanceTo(position) / sizeFactor;
+        if (frozenDistance > 0 && distance > frozenDistance) {
+            return UpdateTier.FROZEN;
+        } else if (reducedDistance > 0 && distance > reducedDistance) {
+            return UpdateTier.REDUCED;
+        } else {
+            return UpdateTier.FULL;
+        }
+    }
+
+    /**
+     * Returns the radius of this entity for LOD calculations.
+     */
+    protected double getLODRadius() {
+        return Math.max(boundingBox.widthRadius, Math.max(boundingBox.heightRadius, boundingBox.depthRadius));
+    }
+
+    /**
+     * Returns true if the variable-based text should be updated this tick, as per the current {@link #updateTier}.
+     */
+    private boolean shouldUpdateVariableText() {
+        switch (updateTier) {
+            case REDUCED:
+                return lastTickVariableTextUpdated == -1 || ticksExisted - lastTickVariableTextUpdated >= ConfigSystem.client.renderingSettings.lodReducedInterval.value;
+            case FROZEN:
+                return lastTickVariableTextUpdated == -1;
+            default:
+                return true;
+        }
+    }
+
     @Override
     protected void renderModel(TransformationMatrix transform, boolean blendingEnabled, float partialTicks) {
+        //Update LOD.  This affects what we update this frame.
+        updateLOD(partialTicks);
+
         //Update internal lighting states.
         world.beginProfiling("LightStateUpdates", true);
-        updateLightBrightness(partialTicks);
+        if (isLODUpdateFrame || lightBrightnessValues.isEmpty()) {
+            updateLightBrightness(partialTicks);
+        }
 
         //Parse model if it hasn't been already.
+        //If the model is still being pre-loaded, skip rendering it for now.
         world.beginProfiling("MainModel", false);
-        if (objectList == null) {
+        if (objectList == null && AModelParser.isModelReady(definition.getModelLocation(subDefinition))) {
             objectList = AModelParser.generateRenderables(this);
         }
 
         //Render model object individually.
-        objectList.forEach(modelObject -> modelObject.render(this, transform, blendingEnabled, partialTicks));
+        if (objectList != null) {
+            objectList.forEach(modelObject -> modelObject.render(this, transform, blendingEnabled, partialTicks));
+        }
 
         //Render any static text.
         world.beginProfiling("MainText", false);
@@ -1306,7 +1426,7 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
             }
         }
         //Handle particles.  Need to only do this once per frame-render.  Shaders may have us render multiple times.
-        if (!InterfaceManager.clientInterface.isGamePaused() && !(ticksExisted == lastTickParticlesSpawned && partialTicks == lastPartialTickParticlesSpawned)) {
+        if (!InterfaceManager.clientInterface.isGamePaused() && isLODUpdateFrame && !(ticksExisted == lastTickParticlesSpawned && partialTicks == lastPartialTickParticlesSpawned)) {
             world.beginProfiling("Particles", false);
             spawnParticles(partialTicks);
             lastTickParticlesSpawned = ticksExisted;
@@ -1321,8 +1441,15 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
         return super.disableRendering() || definition.rendering.modelType.equals(ModelType.NONE);
     }
 
+    @Override
+    protected boolean isModelLoading() {
+        return objectList == null;
+    }
+
     /**
      * Called externally to reset all caches for all objects and animations on this entity.
+     * On clients, this also starts pre-loading the model for the current definition so it
+     * will be ready by the time we are rendered.
      */
     public void resetModelsAndAnimations() {
     	if (definition.rendering.modelType != ModelType.NONE) {
@@ -1330,6 +1457,9 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
                 objectList.forEach(object -> object.destroy());
                 objectList = null;
             }
+            if (world.isClient()) {
+                AModelParser.preloadModel(definition.getModelLocation(subDefinition));
+            }
         }
     }
 
@@ -1356,6 +1486,15 @@ public abstract class AEntityD_Definable<JSONDefinition extends AJSONMultiModelP
         return data;
     }
 
+    /**
+     * Update tiers for render-based updates on clients.  See {@link AEntityD_Definable#isLODUpdateFrame()}.
+     */
+    public static enum UpdateTier {
+        FULL,
+        REDUCED,
+        FROZEN;
+    }
+
     /**
      * Indicates that this field is able to be modified via variable modification
      * by the code in {@link AEntityD_Definable#updateVariableModifiers()},
@@ -1,6 +1,7 @@
 package minecrafttransportsimulator.entities.components;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -35,11 +36,12 @@ import minecrafttransportsimulator.packets.instances.PacketEntityVariableSet;
 import minecrafttransportsimulator.packets.instances.PacketPlayerChatMessage;
 import minecrafttransportsimulator.packloading.PackParser;
 import minecrafttransportsimulator.rendering.RenderInstrument;
+import minecrafttransportsimulator.rendering.RenderInstrument.InstrumentRenderPlan;
 import minecrafttransportsimulator.rendering.RenderInstrument.InstrumentSwitchbox;
-import minecrafttransportsimulator.rendering.RenderableData;
-import minecrafttransportsimulator.rendering.RenderableVertices;
 import minecrafttransportsimulator.systems.LanguageSystem;
 import minecrafttransportsimulator.systems.LanguageSystem.LanguageEntry;
+import minecrafttransportsimulator.systems.ProfilingSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem.Section;
 
 /**
  * Base entity class containing riders and their positions on this entity.  Used for
@@ -70,6 +72,27 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
     public final Set<BoundingBox> collisionBoxes = new HashSet<>();
     private final Map<JSONCollisionGroup, AnimationSwitchbox> collisionSwitchboxes = new HashMap<>();
 
+    /**
+     * Boxes in {@link #collisionBoxes} that aren't part of a static collision group.  These are animated
+     * boxes, or other boxes added by sub-classes, and are added to the encompassing box one-by-one.
+     * Boxes in static groups are instead added to the encompassing box as a single local-space box.
+     **/
+    protected final List<BoundingBox> dynamicCollisionBoxes = new ArrayList<>();
+    private boolean[] collisionGroupBoxesCurrent;
+    private final double[] lastBoxPose = new double[15];
+    private boolean staticBoxBoundsOutdated = true;
+    private boolean hasStaticBoxes;
+    private final Point3D staticBoxOffsetCenter = new Point3D();
+    private final Point3D staticBoxOffsetExtent = new Point3D();
+    private final Point3D staticBoxMaxRadius = new Point3D();
+
+    /**
+     * Number of collision boxes that were updated, and skipped, in the last call to {@link #updateCollisionBoxes(boolean)}.
+     * Boxes are skipped if they don't move with animations, and the entity didn't move since they were last updated.
+     **/
+    public int collisionBoxesUpdated;
+    public int collisionBoxesSkipped;
+
     /**
      * Box that encompasses all boxes on this entity.  This can be used as a pre-check for collision operations
      * to check a single large box rather than multiple small ones to save processing power.
@@ -92,10 +115,10 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
     public final List<ItemInstrument> instruments = new ArrayList<>();
 
     /**
-     * Similar to {@link #instruments}, except this is the renderable bits for them.  There's one entry for each component,
-     * with text being a null entry as text components render via the text rendering system.
+     * Similar to {@link #instruments}, except this is the render plans for them.  These hold the sprites for all non-text
+     * components, as well as the cached text for text components.
      */
-    public final List<List<RenderableData>> instrumentRenderables = new ArrayList<>();
+    public final List<InstrumentRenderPlan> instrumentRenderPlans = new ArrayList<>();
 
     /**
      * Maps instrument components to their respective switchboxes.
@@ -128,7 +151,7 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
             //Need to init lists.
             for (int i = 0; i < definition.instruments.size(); ++i) {
                 instruments.add(null);
-                instrumentRenderables.add(null);
+                instrumentRenderPlans.add(null);
             }
 
             //Create instrument animation clocks.
@@ -190,7 +213,9 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
                     collisionSwitchboxes.put(groupDef, new AnimationSwitchbox(this, animations, groupDef.applyAfter));
                 }
             }
+            collisionGroupBoxesCurrent = new boolean[definition.collisionGroups.size()];
         }
+        Arrays.fill(lastBoxPose, Double.NaN);
         //Check if we have snap connections.
         //We might not be something that can connect, but we can provide connections to use.
         lastSnapConnectionTried = 0;
@@ -230,6 +255,10 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
                 return new ComputedVariable(this, variable, partialTicks -> damageVar.currentValue/ definition.general.health, false);
             case ("damage_totaled"):
                 return new ComputedVariable(this, variable, partialTicks -> outOfHealth ? 1 : 0, false);
+            case ("collision_boxes_updated"):
+                return new ComputedVariable(this, variable, partialTicks -> collisionBoxesUpdated, false);
+            case ("collision_boxes_skipped"):
+                return new ComputedVariable(this, variable, partialTicks -> collisionBoxesSkipped, false);
             default:
                 return super.createComputedVariable(variable, createDefaultIfNotPresent);
         }
@@ -240,7 +269,12 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
      */
     protected void updateCollisionBoxes(boolean requiresDeltaUpdates) {
         collisionBoxes.clear();
+        dynamicCollisionBoxes.clear();
+        collisionBoxesUpdated = 0;
+        collisionBoxesSkipped = 0;
         if (definition.collisionGroups != null) {
+            //Static boxes only need to be updated if we moved, or if they weren't active last update.
+            boolean poseChanged = requiresDeltaUpdates && updateBoxPose();
             for (int i = 0; i < definition.collisionGroups.size(); ++i) {
                 JSONCollisionGroup groupDef = definition.collisionGroups.get(i);
                 List<BoundingBox> boxes = definitionCollisionBoxes.get(i);
@@ -253,13 +287,26 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
                                     box.globalCenter.set(box.localCenter).transform(switchBox.netMatrix);
                                     box.updateToEntity(this, box.globalCenter);
                                 }
+                                collisionBoxesUpdated += boxes.size();
+                            } else {
+                                collisionBoxesSkipped += boxes.size();
                             }
+                            dynamicCollisionBoxes.addAll(boxes);
                         } else {
                             continue;
                         }
-                    } else if (requiresDeltaUpdates) {
-                        for (BoundingBox box : boxes) {
-                            box.updateToEntity(this, null);
+                    } else {
+                        if (requiresDeltaUpdates && (poseChanged || !collisionGroupBoxesCurrent[i])) {
+                            for (BoundingBox box : boxes) {
+                                box.updateToEntity(this, null);
+                            }
+                            collisionBoxesUpdated += boxes.size();
+                        } else {
+                            collisionBoxesSkipped += boxes.size();
+                        }
+                        if (!collisionGroupBoxesCurrent[i]) {
+                            collisionGroupBoxesCurrent[i] = true;
+                            staticBoxBoundsOutdated = true;
                         }
                     }
                     collisionBoxes.addAll(boxes);
@@ -279,9 +326,73 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
                             performHitboxAttack(boxes, groupDef.internalEntityDamage);
                         }
                     }
+                } else if (collisionGroupBoxesCurrent[i]) {
+                    //Static group went inactive, need to remove it from the static bounds.
+                    collisionGroupBoxesCurrent[i] = false;
+                    staticBoxBoundsOutdated = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the current position, orientation, and scale for collision box updates.
+     * Returns true if any of them changed since the last call.
+     */
+    private boolean updateBoxPose() {
+        boolean scaleChanged = setBoxPoseValue(3, scale.x) | setBoxPoseValue(4, scale.y) | setBoxPoseValue(5, scale.z);
+        if (scaleChanged) {
+            //Scale changes the size of the static boxes, so we need to re-calculate their bounds.
+            staticBoxBoundsOutdated = true;
+        }
+        return setBoxPoseValue(0, position.x) | setBoxPoseValue(1, position.y) | setBoxPoseValue(2, position.z) | scaleChanged | setBoxPoseValue(6, orientation.m00) | setBoxPoseValue(7, orientation.m01) | setBoxPoseValue(8, orientation.m02) | setBoxPoseValue(9, orientation.m10) | setBoxPoseValue(10, orientation.m11) | setBoxPoseValue(11, orientation.m12) | setBoxPoseValue(12, orientation.m20) | setBoxPoseValue(13, orientation.m21) | setBoxPoseValue(14, orientation.m22);
+    }
+
+    private boolean setBoxPoseValue(int index, double value) {
+        //Not using != here as the initial values are NaN, and those should count as changed.
+        if (Double.compare(lastBoxPose[index], value) != 0) {
+            lastBoxPose[index] = value;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Updates the local-space bounds of all active boxes in static collision groups.
+     * These are used in the encompassing box calculations in place of the boxes themselves.
+     */
+    private void updateStaticBoxBounds() {
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+        hasStaticBoxes = false;
+        staticBoxMaxRadius.set(0, 0, 0);
+        if (definition.collisionGroups != null) {
+            for (int i = 0; i < definition.collisionGroups.size(); ++i) {
+                if (collisionGroupBoxesCurrent[i] && !collisionSwitchboxes.containsKey(definition.collisionGroups.get(i))) {
+                    for (BoundingBox box : definitionCollisionBoxes.get(i)) {
+                        double offsetX = box.localCenter.x * scale.x;
+                        double offsetY = box.localCenter.y * scale.y;
+                        double offsetZ = box.localCenter.z * scale.z;
+                        minX = Math.min(minX, offsetX);
+                        minY = Math.min(minY, offsetY);
+                        minZ = Math.min(minZ, offsetZ);
+                        maxX = Math.max(maxX, offsetX);
+                        maxY = Math.max(maxY, offsetY);
+                        maxZ = Math.max(maxZ, offsetZ);
+                        staticBoxMaxRadius.x = Math.max(staticBoxMaxRadius.x, box.widthRadius);
+                        staticBoxMaxRadius.y = Math.max(staticBoxMaxRadius.y, box.heightRadius);
+                        staticBoxMaxRadius.z = Math.max(staticBoxMaxRadius.z, box.depthRadius);
+                        hasStaticBoxes = true;
+                    }
                 }
             }
         }
+        if (hasStaticBoxes) {
+            staticBoxOffsetCenter.set((minX + maxX) / 2D, (minY + maxY) / 2D, (minZ + maxZ) / 2D);
+            staticBoxOffsetExtent.set((maxX - minX) / 2D, (maxY - minY) / 2D, (maxZ - minZ) / 2D);
+        }
+        staticBoxBoundsOutdated = false;
     }
 
     private void performHitboxAttack(List<BoundingBox> boxes, float damage) {
@@ -309,7 +420,21 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
         encompassingBox.widthRadius = 0;
         encompassingBox.heightRadius = 0;
         encompassingBox.depthRadius = 0;
-        for (BoundingBox box : collisionBoxes) {
+
+        //Static boxes are done as a single local-space box rotated to our orientation, which is far quicker than doing every box.
+        //This is slightly larger than doing them individually, but that's fine for a box used for pre-checks.
+        if (staticBoxBoundsOutdated) {
+            updateStaticBoxBounds();
+        }
+        if (hasStaticBoxes) {
+            Point3D center = staticBoxOffsetCenter;
+            Point3D extent = staticBoxOffsetExtent;
+            //Boxes used for collision get their global center rounded, so we need to account for that in the static bounds.
+            encompassingBox.widthRadius = (float) (Math.abs(orientation.m00 * center.x + orientation.m01 * center.y + orientation.m02 * center.z) + Math.abs(orientation.m00) * extent.x + Math.abs(orientation.m01) * extent.y + Math.abs(orientation.m02) * extent.z + staticBoxMaxRadius.x + BoundingBox.HITBOX_CLAMP);
+            encompassingBox.heightRadius = (float) (Math.abs(orientation.m10 * center.x + orientation.m11 * center.y + orientation.m12 * center.z) + Math.abs(orientation.m10) * extent.x + Math.abs(orientation.m11) * extent.y + Math.abs(orientation.m12) * extent.z + staticBoxMaxRadius.y + BoundingBox.HITBOX_CLAMP);
+            encompassingBox.depthRadius = (float) (Math.abs(orientation.m20 * center.x + orientation.m21 * center.y + orientation.m22 * center.z) + Math.abs(orientation.m20) * extent.x + Math.abs(orientation.m21) * extent.y + Math.abs(orientation.m22) * extent.z + staticBoxMaxRadius.z + BoundingBox.HITBOX_CLAMP);
+        }
+        for (BoundingBox box : dynamicCollisionBoxes) {
             encompassingBox.widthRadius = (float) Math.max(encompassingBox.widthRadius, Math.abs(box.globalCenter.x - position.x) + box.widthRadius);
             encompassingBox.heightRadius = (float) Math.max(encompassingBox.heightRadius, Math.abs(box.globalCenter.y - position.y) + box.heightRadius);
             encompassingBox.depthRadius = (float) Math.max(encompassingBox.depthRadius, Math.abs(box.globalCenter.z - position.z) + box.depthRadius);
@@ -341,10 +466,12 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
         super.doPostUpdateLogic();
         //Update collision boxes to new position.
         world.beginProfiling("CollisionBoxUpdates", true);
+        long profilingStartTime = ProfilingSystem.startSection();
         updateCollisionBoxes(requiresDeltaUpdates());
         /*TODO there's a potential to optimize this for placed parts to not run all the time, but can't seem to get it to work.
         For the moment, we can just leave this running all the time and call it good until placed parts become a TPS issue.*/
         updateEncompassingBox();
+        ProfilingSystem.endSection(this, Section.COLLISION, profilingStartTime);
         world.endProfiling();
     }
 
@@ -353,18 +480,12 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
      */
     public void addInstrument(ItemInstrument instrument, int slot) {
         instruments.set(slot, instrument);
-        List<RenderableData> renderables = new ArrayList<>();
         for (JSONInstrumentComponent component : instrument.definition.components) {
-            if (component.textObject != null) {
-                renderables.add(null);
-            } else {
-                renderables.add(new RenderableData(RenderableVertices.createSprite(1, null, null)));
-            }
             if (component.animations != null) {
                 instrumentComponentSwitchboxes.put(component, new InstrumentSwitchbox(this, component));
             }
         }
-        instrumentRenderables.set(slot, renderables);
+        instrumentRenderPlans.set(slot, new InstrumentRenderPlan(this, instrument));
     }
 
     /**
@@ -376,7 +497,7 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
             for (JSONInstrumentComponent component : removedInstrument.definition.components) {
                 instrumentComponentSwitchboxes.remove(component);
             }
-            instrumentRenderables.set(slot, null);
+            instrumentRenderPlans.set(slot, null);
         }
     }
 
@@ -425,6 +546,11 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
         collisionBoxes.forEach(box -> box.renderWireframe(this, transform, null, null));
     }
 
+    @Override
+    protected double getLODRadius() {
+        return Math.max(encompassingBox.widthRadius, Math.max(encompassingBox.heightRadius, encompassingBox.depthRadius));
+    }
+
     @Override
     protected void renderModel(TransformationMatrix transform, boolean blendingEnabled, float partialTicks) {
         super.renderModel(transform, blendingEnabled, partialTicks);
@@ -445,7 +571,7 @@ public abstract class AEntityE_Interactable<JSONDefinition extends AJSONInteract
 
                     //Do transforms if required and render if allowed.
                     AnimationSwitchbox switchbox = instrumentSlotSwitchboxes.get(packInstrument);
-                    if (switchbox == null || switchbox.runSwitchbox(partialTicks, false)) {
+                    if (switchbox == null || switchbox.runSwitchboxLOD(partialTicks, false)) {
                         if (switchbox != null) {
                             instrumentTransform.multiply(switchbox.netMatrix);
                         }
@@ -15,6 +15,7 @@ import java.util.TreeMap;
 import minecrafttransportsimulator.baseclasses.AnimationSwitchbox;
 import minecrafttransportsimulator.baseclasses.BoundingBox;
 import minecrafttransportsimulator.baseclasses.BoundingBoxHitResult;
+import minecrafttransportsimulator.baseclasses.BoundingBoxTree;
 import minecrafttransportsimulator.baseclasses.ColorRGB;
 import minecrafttransportsimulator.baseclasses.ComputedVariable;
 import minecrafttransportsimulator.baseclasses.Damage;
@@ -64,6 +65,12 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
      **/
     public final Set<BoundingBox> allCollisionBoxes = new HashSet<>();
 
+    /**
+     * Tree of all {@link #allCollisionBoxes}, for path checks.  Only updated when used after the boxes change.
+     **/
+    private final BoundingBoxTree collisionBoxTree = new BoundingBoxTree();
+    private boolean collisionBoxTreeOutdated = true;
+
     /**
      * This list contains all parts this entity has.  Do NOT directly modify this list.  Instead,
      * call {@link #addPart}, {@link #addPartFromItem}, or {@link #removePart} to ensure all sub-classed
@@ -285,7 +292,7 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
             //Get all collision boxes and check if we hit any of them.
             //Sort them by distance for later.
             TreeMap<Double, BoundingBoxHitResult> hitBoxes = new TreeMap<>();
-            for (BoundingBox box : allCollisionBoxes) {
+            for (BoundingBox box : getCollisionBoxesOnPath(pathStart, pathEnd)) {
                 if (box.collisionTypes.contains(CollisionType.ATTACK) || (isBullet && box.collisionTypes.contains(CollisionType.BULLET))) {
                     BoundingBoxHitResult hitResult = box.getIntersection(pathStart, pathEnd);
                     if (hitResult != null) {
@@ -845,6 +852,7 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
                             }
                             if (activeSlotFound) {
                                 collisionBoxes.add(box);
+                                dynamicCollisionBoxes.add(box);
                                 activeClientPartSlotBoxes.put(box, slotDef);
                                 if (requiresDeltaUpdates) {
                                     AnimationSwitchbox switchBox = partSlotSwitchboxes.get(slotDef);
@@ -867,6 +875,18 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
         }
     }
 
+    /**
+     * Returns all boxes in {@link #allCollisionBoxes} that could be hit by the path between the passed-in points.
+     * Boxes still need to be checked for actual intersections, this just removes the ones that can't be hit.
+     */
+    public List<BoundingBox> getCollisionBoxesOnPath(Point3D pathStart, Point3D pathEnd) {
+        if (collisionBoxTreeOutdated) {
+            collisionBoxTree.update(allCollisionBoxes);
+            collisionBoxTreeOutdated = false;
+        }
+        return collisionBoxTree.getBoxesOnPath(pathStart, pathEnd);
+    }
+
     @Override
     protected void updateEncompassingBox() {
         super.updateEncompassingBox();
@@ -883,6 +903,15 @@ public abstract class AEntityF_Multipart<JSONDefinition extends AJSONPartProvide
         for (APart part : parts) {
             allCollisionBoxes.addAll(part.allCollisionBoxes);
         }
+        collisionBoxTreeOutdated = true;
+
+        //Parts update after the entity they are on, so mark the trees of the entities we are on as outdated too.
+        //Otherwise a query between our updates would use our boxes from before we moved.
+        AEntityF_Multipart<?> entityOn = this;
+        while (entityOn instanceof APart) {
+            entityOn = ((APart) entityOn).entityOn;
+            entityOn.collisionBoxTreeOutdated = true;
+        }
 
         //Update encompassing bounding box to reflect all bounding boxes of all parts.
         if (!parts.isEmpty()) {
@@ -32,6 +32,8 @@ import minecrafttransportsimulator.systems.LanguageSystem.LanguageEntry;
  * @author don_bruce
  */
 public abstract class AEntityG_Towable<JSONDefinition extends AJSONPartProvider> extends AEntityF_Multipart<JSONDefinition> {
+    private static final double TOWING_SEARCH_MARGIN = 32;
+
     //Connection data.
     public TowingConnection towedByConnection;
     private TowingConnection savedTowedByConnection;
@@ -364,7 +366,9 @@ public abstract class AEntityG_Towable<JSONDefinition extends AJSONPartProvider>
 
         if (connectionToDisconnect == null) {
             TrailerConnectionResult result;
-            List<AEntityG_Towable<?>> entitiesToCheck = new ArrayList<>(world.getEntitiesOfType(EntityVehicleF_Physics.class));
+            //Connections may be on parts, so we need to look past the connection range by our size, plus some more for the other vehicle's size.
+            List<AEntityG_Towable<?>> entitiesToCheck = new ArrayList<>();
+            world.populateWithEntitiesNear(entitiesToCheck, EntityVehicleF_Physics.class, position, 25 + Math.max(encompassingBox.widthRadius, encompassingBox.depthRadius) + TOWING_SEARCH_MARGIN);
 
             if (requestedGroup.isHitch) {
                 //Find an entity to tow.
@@ -8,6 +8,8 @@ import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packets.instances.PacketCrafterFuelAdd;
 import minecrafttransportsimulator.packets.instances.PacketCrafterTimeSet;
+import minecrafttransportsimulator.systems.ProfilingSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem.Section;
 
 /**
  * Basic crafter class.  Class is essentially an inventory that holds state of crafting
@@ -25,6 +27,11 @@ public abstract class AEntityCrafter extends EntityInventoryContainer {
     public int ticksLeftToCraft;
     public double powerToDrawPerTick;
     public final JSONPartInteractable definition;
+    /**
+     * True if the inventory has changed since the last time we checked for something to craft.
+     * Results can only change when the items in us change, so there's no need to check otherwise.
+     */
+    private boolean inventoryChanged = true;
 
     private final int[] inputSlots;
     private final int[] outputSlots;
@@ -109,7 +116,11 @@ public abstract class AEntityCrafter extends EntityInventoryContainer {
             }
         } else {
             //Not currently crafting, see if we can craft anything.
-            if (!world.isClient()) {
+            //Only do this if our inventory changed, as otherwise we know we can't craft anything.
+            //Checks are counted by the profiler, so idle crafters can be seen to not do any.
+            if (!world.isClient() && inventoryChanged) {
+                long profilingStartTime = ProfilingSystem.startSection();
+                inventoryChanged = false;
                 for (int i = 0; i < inputSlots.length; ++i) {
                     IWrapperItemStack inputStack = getStack(inputSlots[i]);
                     IWrapperItemStack outputStack = getResultForSlot(inputSlots[i]);
@@ -119,6 +130,7 @@ public abstract class AEntityCrafter extends EntityInventoryContainer {
                         InterfaceManager.packetInterface.sendToAllClients(new PacketCrafterTimeSet(this));
                     }
                 }
+                ProfilingSystem.endSection(this, Section.RECIPES, profilingStartTime);
             }
         }
     }
@@ -154,6 +166,12 @@ public abstract class AEntityCrafter extends EntityInventoryContainer {
     protected void performPostCraftingOperations() {
     }
 
+    @Override
+    public void setStack(IWrapperItemStack stackToSet, int index) {
+        super.setStack(stackToSet, index);
+        inventoryChanged = true;
+    }
+
     @Override
     public boolean isStackValid(IWrapperItemStack stackToCheck, int index) {
         if (index == FUEL_ITEM_SLOT) {
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import minecrafttransportsimulator.baseclasses.BezierCurve;
 import minecrafttransportsimulator.baseclasses.BoundingBox;
 import minecrafttransportsimulator.baseclasses.ComputedVariable;
 import minecrafttransportsimulator.baseclasses.Damage;
@@ -15,7 +14,6 @@ import minecrafttransportsimulator.baseclasses.VehicleGroundDeviceCollection;
 import minecrafttransportsimulator.blocks.components.ABlockBase;
 import minecrafttransportsimulator.blocks.instances.BlockCollision;
 import minecrafttransportsimulator.blocks.tileentities.components.RoadFollowingState;
-import minecrafttransportsimulator.blocks.tileentities.components.RoadLane;
 import minecrafttransportsimulator.blocks.tileentities.components.RoadLane.LaneSelectionRequest;
 import minecrafttransportsimulator.blocks.tileentities.instances.TileEntityRoad;
 import minecrafttransportsimulator.entities.components.AEntityE_Interactable;
@@ -33,6 +31,8 @@ import minecrafttransportsimulator.packets.instances.PacketPlayerChatMessage;
 import minecrafttransportsimulator.packets.instances.PacketVehicleServerMovement;
 import minecrafttransportsimulator.systems.ConfigSystem;
 import minecrafttransportsimulator.systems.LanguageSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem.Section;
 
 /**
  * At the final basic vehicle level we add in the functionality for state-based movement.
@@ -216,6 +216,7 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
         //Now do update calculations and logic.
         if (!ConfigSystem.settings.general.noclipVehicles.value || groundDeviceCollective.isReady()) {
             world.beginProfiling("GroundForces", true);
+            long profilingStartTime = ProfilingSystem.startSection();
             getForcesAndMotions();
             world.beginProfiling("GroundOperations", false);
             if (towedByConnection == null || !towedByConnection.hitchConnection.mounted) {
@@ -228,6 +229,7 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
             if (!world.isClient()) {
                 adjustControlSurfaces();
             }
+            ProfilingSystem.endSection(this, Section.PHYSICS, profilingStartTime);
             world.endProfiling();
         }
         world.endProfiling();
@@ -385,24 +387,8 @@ abstract class AEntityVehicleD_Moving extends AEntityVehicleC_Colliding {
                 TileEntityRoad road = ((BlockCollision) block).getMasterRoad(world, contactPoint);
                 if (road != null) {
                     //Check to see which lane we are on, if any.
-                    Point3D testPoint = new Point3D();
-                    Point3D testRotation;
-                    for (RoadLane lane : road.lanes) {
-                        //Check path-points on the curve.  If our angles and position are close, set this as the curve.
-                        for (BezierCurve curve : lane.curves) {
-                            for (float f = 0; f < curve.pathLength; ++f) {
-                                curve.setPointToPositionAt(testPoint, f);
-                                if (testPoint.isDistanceToCloserThan(contactPoint, 1)) {
-                                    testRotation = curve.getRotationAt(f).angles;
-                                    boolean sameDirection = Math.abs(testRotation.getClampedYDelta(orientation.angles.y)) < 10;
-                                    boolean oppositeDirection = Math.abs(testRotation.getClampedYDelta(orientation.angles.y)) > 170;
-                                    if (sameDirection || oppositeDirection) {
-                                        return new RoadFollowingState(lane, curve, sameDirection, f);
-                                    }
-                                }
-                            }
-                        }
-                    }
+                    //If our angles and position are close to a point on a lane curve, set that as the curve.
+                    return road.getFollowingStateAt(contactPoint, orientation.angles.y);
                 }
             }
         }
@@ -291,6 +291,12 @@ public abstract class APart extends AEntityF_Multipart<JSONPart> {
         return entityOn.getUpdateTime();
     }
 
+    @Override
+    protected AEntityF_Multipart<?> getLODMaster() {
+        //Parts are part of their master entity, so use its tier and update frames to keep them in sync.
+        return masterEntity;
+    }
+
     @Override
     public boolean requiresDeltaUpdates() {
         return entityOn.requiresDeltaUpdates() || isMoveable || super.requiresDeltaUpdates();
@@ -308,6 +314,7 @@ public abstract class APart extends AEntityF_Multipart<JSONPart> {
         if (!isFake()) {
             super.updateCollisionBoxes(requiresDeltaUpdates);
             collisionBoxes.add(boundingBox);
+            dynamicCollisionBoxes.add(boundingBox);
         }
     }
 
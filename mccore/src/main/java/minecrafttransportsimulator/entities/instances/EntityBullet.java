@@ -57,6 +57,9 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
     private final int despawnTime;
     private final BoundingBox proxBounds;
     private static final HashMap<String, CustomHitFunction> CUSTOM_HIT_FUNCTIONS = new HashMap<>();
+    private static final int MAX_SWEEP_TICKS = 5;
+    private static final double MAX_SWEEP_LENGTH = 64;
+    private static final double MAX_SWEEP_DEVIATION = 0.0625;
 
     //States
     public boolean waitingOnActionPacket;
@@ -78,6 +81,12 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
     private Point3D relativeGunPos;
     private Point3D prevRelativeGunPos;
     private final List<AEntityF_Multipart<?>> multiparts = new ArrayList<>();
+    private long blockChecksSkippedUntilTick;
+    private long blockChecksSteppedUntilTick;
+    private final Point3D sweepMotion = new Point3D();
+    private final Point3D sweepDelta = new Point3D();
+    /**Multiparts from the broad-phase check of this bullet's group, if it has one.  If null, the world is queried directly.**/
+    public List<AEntityF_Multipart<?>> groupMultiparts;
 
     /**
      * Generic constructor for no target.
@@ -132,6 +141,86 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
         displayDebugMessage("LOCKON ENTITY " + externalEntityTargeted.getName() + " @ " + externalEntityTargeted.getPosition());
     }
 
+    /**
+     * Returns the furthest this bullet could move on its next update.  This is used for
+     * bounds checks done prior to the update, before the bullet's motion has been changed.
+     */
+    public double getMaxTravelDistance() {
+        return motion.length() + 2 * definition.bullet.gravitationalVelocity + Math.abs(velocityToAddEachTick);
+    }
+
+    /**
+     * Adds the gravity and slowdown forces for the passed-in tick to the passed-in motion.
+     * These only apply if we don't have a burning motor.
+     */
+    private void addBallisticForces(Point3D motionToChange, long tick) {
+        if (tick > definition.bullet.burnTime || tick < definition.bullet.accelerationDelay) {
+            if (definition.bullet.slowdownSpeed > 0) {
+                double speed = motionToChange.length();
+                if (speed > 1.0E-8D) {
+                    motionToChange.scale(1 - definition.bullet.slowdownSpeed / speed);
+                }
+            }
+            motionToChange.y -= definition.bullet.gravitationalVelocity;
+        }
+    }
+
+    /**
+     * Returns true if this bullet's motion on the passed-in tick only comes from {@link #addBallisticForces(Point3D, long)}.
+     * This is the case for bullets without guidance that aren't accelerating, which lets us know where they will be ahead of time.
+     */
+    private boolean isOnBallisticPath(long tick) {
+        return definition.bullet.turnRate == 0 && (velocityToAddEachTick == 0 || tick - definition.bullet.accelerationDelay >= definition.bullet.accelerationTime);
+    }
+
+    /**
+     * Returns true if we know there are no blocks on the path we will move through this tick.
+     * For bullets on a ballistic path, we work out where they will be over the next few ticks, and do one
+     * block check along that path for as long as it's straight enough to be checked as one line.
+     * If that check is clear, we don't do block checks again until we get to the end of it.  If it isn't,
+     * we are near blocks, so we do normal per-tick checks until then instead.
+     * <p>
+     * Paths are kept to a few ticks so blocks placed in front of us are still seen, and are kept short
+     * enough that the block check doesn't give up part-way or load chunks far ahead of us.
+     */
+    private boolean isBlockPathClear() {
+        if (ticksExisted < blockChecksSkippedUntilTick) {
+            return true;
+        } else if (ticksExisted < blockChecksSteppedUntilTick || !isOnBallisticPath(ticksExisted)) {
+            return false;
+        }
+
+        //The path bends a bit more each tick.  A path with a length and total turn angle can't be further from
+        //the straight line between its ends than the length times the angle over 4, so stop when that gets too big.
+        sweepMotion.set(motion);
+        sweepDelta.set(motion);
+        double startSpeed = motion.length();
+        double sweepLength = startSpeed;
+        int sweepTicks = 1;
+        while (sweepTicks < MAX_SWEEP_TICKS && startSpeed > 0 && isOnBallisticPath(ticksExisted + sweepTicks)) {
+            addBallisticForces(sweepMotion, ticksExisted + sweepTicks);
+            double sweepSpeed = sweepMotion.length();
+            if (sweepSpeed < 1.0E-8D) {
+                break;
+            }
+            double turnAngle = Math.acos(Math.max(-1, Math.min(1, motion.dotProduct(sweepMotion, false) / (startSpeed * sweepSpeed))));
+            if (sweepLength + sweepSpeed > MAX_SWEEP_LENGTH || (sweepLength + sweepSpeed) * turnAngle / 4 > MAX_SWEEP_DEVIATION) {
+                break;
+            }
+            sweepDelta.add(sweepMotion);
+            sweepLength += sweepSpeed;
+            ++sweepTicks;
+        }
+
+        if (sweepTicks > 1 && world.getBlockHit(position, sweepDelta) == null) {
+            blockChecksSkippedUntilTick = ticksExisted + sweepTicks;
+            return true;
+        } else {
+            blockChecksSteppedUntilTick = ticksExisted + sweepTicks;
+            return false;
+        }
+    }
+
     @Override
     public void update() {
         super.update();
@@ -179,12 +268,7 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
             }
 
             //Add gravity and slowdown forces, if we don't have a burning motor.
-            if (ticksExisted > definition.bullet.burnTime || ticksExisted < definition.bullet.accelerationDelay) {
-                if (definition.bullet.slowdownSpeed > 0) {
-                    motion.add(motion.copy().normalize().scale(-definition.bullet.slowdownSpeed));
-                }
-                motion.y -= definition.bullet.gravitationalVelocity;
-            }
+            addBallisticForces(motion, ticksExisted);
 
             //Add motion requested watch tick we are accelerating.
             boolean notAcceleratingYet = definition.bullet.accelerationDelay != 0 && ticksExisted < definition.bullet.accelerationDelay;
@@ -321,7 +405,7 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
                 AEntityF_Multipart<?> hitMultipart = null;
                 Collection<BoundingBoxHitResult> hitMultipartBoxes = null;
                 IWrapperEntity hitExternalEntity = null;
-                hitBlock = world.getBlockHit(position, motion);
+                hitBlock = isBlockPathClear() ? null : world.getBlockHit(position, motion);
                 
                 //Check for collided external entities.
                 List<IWrapperEntity> attackedEntities = world.attackEntities(damage, motion, true);
@@ -358,7 +442,16 @@ public class EntityBullet extends AEntityD_Definable<JSONBullet> {
                 Point3D endPoint = position.copy().add(motion);
                 BoundingBox bulletMovementBounds = new BoundingBox(position, endPoint);
                 multiparts.clear();
-                world.populateWithEntitiesInBounds(multiparts, bulletMovementBounds);
+                if (groupMultiparts != null) {
+                    for (AEntityF_Multipart<?> multipart : groupMultiparts) {
+                        //Need to check validity, as another bullet in our group may have destroyed this multipart.
+                        if (multipart.isValid && multipart.encompassingBox.intersects(bulletMovementBounds)) {
+                            multiparts.add(multipart);
+                        }
+                    }
+                } else {
+                    world.populateWithEntitiesInBounds(multiparts, bulletMovementBounds);
+                }
                 for (AEntityF_Multipart<?> multipart : multiparts) {
                     //Don't attack the entity that has the gun that fired us.
                     if (!multipart.allParts.contains(gun)) {
@@ -1,6 +1,7 @@
 package minecrafttransportsimulator.entities.instances;
 
 import java.util.List;
+import java.util.Map;
 
 import minecrafttransportsimulator.baseclasses.IInventoryProvider;
 import minecrafttransportsimulator.entities.components.AEntityA_Base;
@@ -23,6 +24,7 @@ public class EntityInventoryContainer extends AEntityA_Base implements IInventor
     private final int stackSize;
     public int cachedStackCount;
     public int cachedItemCount;
+    private Map<String, List<Integer>> cachedMaterialIndex;
 
     public EntityInventoryContainer(AWrapperWorld world, IWrapperNBT data, int maxSlots) {
         this(world, data, maxSlots, 64);
@@ -67,11 +69,20 @@ public class EntityInventoryContainer extends AEntityA_Base implements IInventor
         return inventory.get(index);
     }
 
+    @Override
+    public Map<String, List<Integer>> getMaterialIndex() {
+        if (cachedMaterialIndex == null) {
+            cachedMaterialIndex = IInventoryProvider.super.getMaterialIndex();
+        }
+        return cachedMaterialIndex;
+    }
+
     @Override
     public void setStack(IWrapperItemStack stackToSet, int index) {
         inventory.set(index, stackToSet);
         cachedStackCount = getStackCount();
         cachedItemCount = getItemCount();
+        cachedMaterialIndex = null;
         if (!world.isClient()) {
             InterfaceManager.packetInterface.sendToAllClients(new PacketInventoryContainerChange(this, index, stackToSet));
         }
@@ -6,8 +6,6 @@ import java.util.List;
 import minecrafttransportsimulator.baseclasses.BoundingBox;
 import minecrafttransportsimulator.baseclasses.Point3D;
 import minecrafttransportsimulator.entities.components.AEntityF_Multipart;
-import minecrafttransportsimulator.items.components.AItemPack;
-import minecrafttransportsimulator.items.components.AItemPart;
 import minecrafttransportsimulator.jsondefs.JSONCollisionGroup.CollisionType;
 import minecrafttransportsimulator.jsondefs.JSONDummyPartProvider;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
@@ -40,14 +38,7 @@ public class EntityPlacedPart extends AEntityF_Multipart<JSONDummyPartProvider>
 
         if (allPartTypes.isEmpty()) {
             //Look though all part types and add them.
-            for (AItemPack<?> packItem : PackParser.getAllPackItems()) {
-                if (packItem instanceof AItemPart) {
-                    AItemPart partItem = (AItemPart) packItem;
-                    if (!allPartTypes.contains(partItem.definition.generic.type)) {
-                        allPartTypes.add(partItem.definition.generic.type);
-                    }
-                }
-            }
+            allPartTypes.addAll(PackParser.getAllPartTypes());
         }
         defaultDefinition.parts.get(0).types.addAll(allPartTypes);
 
@@ -17,7 +17,6 @@ import minecrafttransportsimulator.entities.instances.PartSeat;
 import minecrafttransportsimulator.guis.components.AGUIBase;
 import minecrafttransportsimulator.guis.components.GUIComponentItem;
 import minecrafttransportsimulator.guis.components.GUIComponentLabel;
-import minecrafttransportsimulator.items.components.AItemPack;
 import minecrafttransportsimulator.items.components.AItemPart;
 import minecrafttransportsimulator.jsondefs.JSONItem.ItemComponentType;
 import minecrafttransportsimulator.jsondefs.JSONPartDefinition;
@@ -158,15 +157,7 @@ public class GUIOverlay extends AGUIBase {
 
                 if (mousedOverBox != null) {
                     //Populate stacks.
-                    List<AItemPart> validParts = new ArrayList<>();
-                    for (AItemPack<?> packItem : PackParser.getAllPackItems()) {
-                        if (packItem instanceof AItemPart) {
-                            AItemPart part = (AItemPart) packItem;
-                            if (part.isPartValidForPackDef(packVehicleDef, multipart.subDefinition, true)) {
-                                validParts.add(part);
-                            }
-                        }
-                    }
+                    List<AItemPart> validParts = PackParser.getPartsForSlot(packVehicleDef, multipart.subDefinition, true);
 
                     //Get the slot info.
                     tooltipText.add("Types: " + packVehicleDef.types.toString());
@@ -103,12 +103,10 @@ public class GUIPartBench extends AGUIBase {
             currentPack = currentItem.definition.packID;
         } else {
             //Find a pack that has the item we are supposed to craft and set it.
-            for (AItemPack<?> packItem : PackParser.getAllPackItems()) {
-                if (packItem.isBenchValid(definition)) {
-                    currentItem = packItem;
-                    currentPack = packItem.definition.packID;
-                    return;
-                }
+            List<AItemPack<?>> benchItems = PackParser.getItemsForBench(definition);
+            if (!benchItems.isEmpty()) {
+                currentItem = benchItems.get(0);
+                currentPack = currentItem.definition.packID;
             }
         }
     }
@@ -340,11 +338,8 @@ public class GUIPartBench extends AGUIBase {
         nextPack = null;
         if (currentPackIndex < packIDs.size()) {
             for (int i = currentPackIndex + 1; i < packIDs.size() && nextPack == null; ++i) {
-                for (AItemPack<?> packItem : PackParser.getAllItemsForPack(packIDs.get(i), true)) {
-                    if (packItem.isBenchValid(definition)) {
-                        nextPack = packIDs.get(i);
-                        break;
-                    }
+                if (!PackParser.getItemsForBench(definition, packIDs.get(i)).isEmpty()) {
+                    nextPack = packIDs.get(i);
                 }
             }
         }
@@ -354,11 +349,8 @@ public class GUIPartBench extends AGUIBase {
         prevPack = null;
         if (currentPackIndex > 0) {
             for (int i = currentPackIndex - 1; i >= 0 && prevPack == null; --i) {
-                for (AItemPack<?> packItem : PackParser.getAllItemsForPack(packIDs.get(i), true)) {
-                    if (packItem.isBenchValid(definition)) {
-                        prevPack = packIDs.get(i);
-                        break;
-                    }
+                if (!PackParser.getItemsForBench(definition, packIDs.get(i)).isEmpty()) {
+                    prevPack = packIDs.get(i);
                 }
             }
         }
@@ -368,7 +360,8 @@ public class GUIPartBench extends AGUIBase {
         if (currentPack == null) {
             return;
         }
-        List<AItemPack<?>> packItems = PackParser.getAllItemsForPack(currentPack, true);
+        //Only items for our bench are in this list, so we don't need to check them.
+        List<AItemPack<?>> packItems = PackParser.getItemsForBench(definition, currentPack);
         int currentItemIndex = packItems.indexOf(currentItem);
         //If currentItem is null, it means we switched packs and need to re-set it to the first item of the new pack.
         //Do so now before we do looping to prevent crashes.
@@ -376,16 +369,12 @@ public class GUIPartBench extends AGUIBase {
         //If we are for a subTyped item, make sure to set the next subItem if we can.
         if (currentItem == null) {
             for (AItemPack<?> packItem : packItems) {
-                if (currentItem == null || (currentItem.definition instanceof AJSONMultiModelProvider && nextSubItem == null)) {
-                    if (packItem.isBenchValid(definition)) {
-                        if (currentItem == null) {
-                            currentItem = packItem;
-                            currentItemIndex = packItems.indexOf(currentItem);
-                        } else if (currentItem.definition instanceof AJSONMultiModelProvider && nextSubItem == null) {
-                            if (packItem.definition.systemName.equals(currentItem.definition.systemName)) {
-                                nextSubItem = packItem;
-                            }
-                        }
+                if (currentItem == null) {
+                    currentItem = packItem;
+                    currentItemIndex = packItems.indexOf(currentItem);
+                } else if (currentItem.definition instanceof AJSONMultiModelProvider && nextSubItem == null) {
+                    if (packItem.definition.systemName.equals(currentItem.definition.systemName)) {
+                        nextSubItem = packItem;
                     }
                 }
             }
@@ -397,20 +386,18 @@ public class GUIPartBench extends AGUIBase {
         nextSubItem = null;
         if (currentItemIndex < packItems.size()) {
             for (int i = currentItemIndex + 1; i < packItems.size() && nextItem == null; ++i) {
-                if (packItems.get(i).isBenchValid(definition)) {
-                    //If we are for subTyped item, and this item is the same sub-item classification, 
-                    //set nextSubItem and continue on.
-                    if (currentItem.definition instanceof AJSONMultiModelProvider) {
-                        if (packItems.get(i).definition.systemName.equals(currentItem.definition.systemName)) {
-                            if (nextSubItem == null) {
-                                nextSubItem = packItems.get(i);
-                            }
-                            continue;
+                //If we are for subTyped item, and this item is the same sub-item classification, 
+                //set nextSubItem and continue on.
+                if (currentItem.definition instanceof AJSONMultiModelProvider) {
+                    if (packItems.get(i).definition.systemName.equals(currentItem.definition.systemName)) {
+                        if (nextSubItem == null) {
+                            nextSubItem = packItems.get(i);
                         }
+                        continue;
                     }
-                    nextItem = packItems.get(i);
-                    break;
                 }
+                nextItem = packItems.get(i);
+                break;
             }
         }
 
@@ -420,28 +407,26 @@ public class GUIPartBench extends AGUIBase {
         prevSubItem = null;
         if (currentItemIndex > 0) {
             for (int i = currentItemIndex - 1; i >= 0 && (prevItem == null || currentItem.definition instanceof AJSONMultiModelProvider); --i) {
-                if (packItems.get(i).isBenchValid(definition)) {
-                    //If we are for a subTyped item, and we didn't switch items, and this item
-                    //is the same sub-item classification, set prevSubItem and continue on.
-                    //If we did switch, we want the first subItem in the set of items to
-                    //be the prevItem we pick.  This ensures when we switch we'll be on the 
-                    //same subItem each time we switch items.
-                    if (currentItem.definition instanceof AJSONMultiModelProvider) {
-                        if (packItems.get(i).definition.systemName.equals(currentItem.definition.systemName)) {
-                            if (prevSubItem == null) {
-                                prevSubItem = packItems.get(i);
-                            }
-                        } else {
-                            if (prevItem == null) {
-                                prevItem = packItems.get(i);
-                            } else if (packItems.get(i).definition.systemName.equals(prevItem.definition.systemName)) {
-                                prevItem = packItems.get(i);
-                            }
+                //If we are for a subTyped item, and we didn't switch items, and this item
+                //is the same sub-item classification, set prevSubItem and continue on.
+                //If we did switch, we want the first subItem in the set of items to
+                //be the prevItem we pick.  This ensures when we switch we'll be on the 
+                //same subItem each time we switch items.
+                if (currentItem.definition instanceof AJSONMultiModelProvider) {
+                    if (packItems.get(i).definition.systemName.equals(currentItem.definition.systemName)) {
+                        if (prevSubItem == null) {
+                            prevSubItem = packItems.get(i);
                         }
                     } else {
-                        prevItem = packItems.get(i);
-                        break;
+                        if (prevItem == null) {
+                            prevItem = packItems.get(i);
+                        } else if (packItems.get(i).definition.systemName.equals(prevItem.definition.systemName)) {
+                            prevItem = packItems.get(i);
+                        }
                     }
+                } else {
+                    prevItem = packItems.get(i);
+                    break;
                 }
             }
         }
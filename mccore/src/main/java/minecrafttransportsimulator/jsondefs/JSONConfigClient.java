@@ -38,6 +38,13 @@ public class JSONConfigClient {
         public JSONConfigEntry<Boolean> lightsTransp = new JSONConfigEntry<>(false, "If true, textures that light up will be rendered on the transperent pass.  This is required for some shaders to prevent lit textures without alpha channels from becoming invible, but it may break rendering on non-shader builds.");
         public JSONConfigEntry<Boolean> playerTweaks = new JSONConfigEntry<>(true, "If true, player hands will be modified when holding guns, and hands and legs will be modified when riding in vehicles.  Set this to false (and restart the game) if mods cause issues, like two-hand rendering or player model issues.  Automatically set to false if some mods are detected.");
 
+        public JSONConfigEntry<Integer> modelCacheSize = new JSONConfigEntry<>(512, "How much memory, in megabytes, parsed models are allowed to use.  Models that are not being used by anything in the world are removed from memory when this is exceeded, and are re-loaded if they are needed again.  Models that are in use are never removed, so this may be exceeded if lots of different models are in use.");
+        public JSONConfigEntry<Integer> modelLoaderThreads = new JSONConfigEntry<>(2, "How many background threads to use for loading models.  Models are loaded when a vehicle or part is first seen, and a bounding box is rendered in their place until they are ready.  Set to 0 to load models on the render thread when first rendered, which causes a stall the first time a new model is seen.");
+
+        public JSONConfigEntry<Integer> lodReducedDistance = new JSONConfigEntry<>(64, "Distance, in blocks, past which entities update their animations, instruments, text, lights, and particles at a reduced rate.  This distance is increased for larger entities, as they take up more of the screen.  Set to 0 to always update everything every frame.");
+        public JSONConfigEntry<Integer> lodReducedInterval = new JSONConfigEntry<>(4, "How many frames to wait between updates for entities past the lodReducedDistance.  Also used as the number of ticks between updates for variable-based text on those entities.");
+        public JSONConfigEntry<Integer> lodFrozenDistance = new JSONConfigEntry<>(192, "Distance, in blocks, past which entities stop updating their animations, instruments, text, lights, and particles entirely until they come closer.  This distance is increased for larger entities, as they take up more of the screen.  Set to 0 to never freeze entities.");
+
         public JSONConfigEntry<Integer> renderingMode = new JSONConfigEntry<>(0, "Internal rendering mode value, don't touch!");
     }
 
@@ -36,6 +36,8 @@ public class JSONConfigSettings {
         public JSONConfigEntry<Boolean> noclipVehicles = new JSONConfigEntry<>(false, "If true, vehicles will not be able to collide with blocks.  This also prevents them from moving if they do not have wheels on them, as otherwise they would phase through the ground into the void.");
         public JSONConfigEntry<Boolean> chunkloadVehicles = new JSONConfigEntry<>(true, "If true, vehicles will be chunkloaded when on roads/tracks.  This allows them to travel into unloaded chunks.");
         public JSONConfigEntry<Boolean> doLegacyLightCompats = new JSONConfigEntry<>(true, "If true, legacy compatibility code will be performed on all models to make their lights work with newer versions.  This code will significantly slow down boot times due to needing to parse all models on boot, however, packs may not have functional lights without it.  Choose wisely if you want speed or features.");
+        public JSONConfigEntry<Boolean> parallelPackLoading = new JSONConfigEntry<>(true, "If true, pack JSON files will be parsed and checked using multiple threads when the game boots.  This makes booting with lots of packs faster.  Set this to false if you have issues with packs loading, as this will load them one file at a time.");
+        public JSONConfigEntry<Boolean> packDefinitionCache = new JSONConfigEntry<>(true, "If true, pack definitions will be cached after they are loaded, and loaded from that cache on the next boot if the pack has not changed.  This makes booting faster.  Set this to false if packs are not loading properly, or if you are editing pack files and they aren't updating.");
         public JSONConfigEntry<Boolean> useHSV = new JSONConfigEntry<>(false, "If enabled, the MTS dev mode will export color values as HSV instead of hex.");
         public JSONConfigEntry<Boolean> allPlanesWithNav = new JSONConfigEntry<>(false, "If true, all planes will have the ability to use beacons for navigation.  This is false to allow pack authors to define new/old planes that have this capability, but can be turned on if you don't care about realism.");
         public JSONConfigEntry<Boolean> giveManualsOnJoin = new JSONConfigEntry<>(true, "If true, then whenever a new player joins a world, they will be given a copy of the mod manuals, including a part scanner.");
@@ -55,6 +57,8 @@ public class JSONConfigSettings {
         public JSONConfigEntry<Double> rfToElectricityFactor = new JSONConfigEntry<>(0.02D, "Factor for converting RF to internal electicity for vehicles.  Default value is 1/100, but can be adjusted.");
         public JSONConfigEntry<Double> vehicleDeathDespawnTime = new JSONConfigEntry<>(0.0D, "Time (in seconds) between when vehicles reach 0 health and they de-spawn.  Normally 0, which means they never de-spawn.");
         public JSONConfigEntry<Integer> seaLevel = new JSONConfigEntry<>(63,"The Y-Level that will be used to base altitude off of. Will also be factored in for engine performance calculations. Change only if you know what you're doing/ why this matters to engines/flying.");
+        public JSONConfigEntry<Integer> dataSaveInterval = new JSONConfigEntry<>(5, "How often, in seconds, changed world data (such as radio presets and beacons) is saved to disk.  Data is always saved when the world is unloaded, so this only matters if the server crashes.");
+        public JSONConfigEntry<Double> bulletTickBudget = new JSONConfigEntry<>(10.0D, "How much time, in milliseconds, the server may spend updating bullets each tick.  Bullets that don't get updated due to this limit are updated first on the next tick, so heavy fire will slow bullets down rather than the whole server.  Setting it to 0 removes the limit.");
         public JSONConfigEntry<List<String>> defaultVehicleRepairMaterials = new JSONConfigEntry<>(new ArrayList<>(), "List of items that can be used to repair vehicles by default, if no repair recipe is set in the vehicle's JSON.");
         public JSONConfigEntry<List<String>> defaultPartRepairMaterials = new JSONConfigEntry<>(new ArrayList<>(), "List of items that can be used to repair part by default, if no repair recipe is set in the part's JSON.");
         public JSONConfigEntry<Set<String>> engineDimensionBlacklist = new JSONConfigEntry<>(new HashSet<>(), "Blacklist of dimension names where engines will be prevented from being started.  Can be used to disable vehicles in specific dimensions.  Think Galacticraft, where you don't want folks flying planes on the moon.");
@@ -1,9 +1,19 @@
 package minecrafttransportsimulator.mcinterface;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import minecrafttransportsimulator.baseclasses.BlockHitResult;
 import minecrafttransportsimulator.baseclasses.BoundingBox;
@@ -20,6 +30,9 @@ import minecrafttransportsimulator.entities.components.AEntityA_Base;
 import minecrafttransportsimulator.entities.components.AEntityB_Existing;
 import minecrafttransportsimulator.entities.components.AEntityE_Interactable;
 import minecrafttransportsimulator.jsondefs.AJSONMultiModelProvider;
+import minecrafttransportsimulator.packets.instances.PacketWorldSavedDataUpdate;
+import minecrafttransportsimulator.packloading.PackMaterialComponent;
+import minecrafttransportsimulator.systems.ConfigSystem;
 
 /**
  * IWrapper to a world instance.  This contains many common methods that
@@ -33,6 +46,36 @@ import minecrafttransportsimulator.jsondefs.AJSONMultiModelProvider;
  * @author don_bruce
  */
 public abstract class AWrapperWorld extends EntityManager {
+    private static final ExecutorService dataSaveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "MTS-WorldDataSaver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<String> changedDataNames = new LinkedHashSet<>();
+    private volatile boolean dataNeedsSaving;
+    private long nextDataSaveTime;
+    private Future<?> pendingDataSave;
+
+    public AWrapperWorld() {
+        //Tags may be different for the new world, so clear any recipes that used the old ones.
+        PackMaterialComponent.clearRecipeCache();
+    }
+
+    @Override
+    public void tickAll(boolean beforePlayer) {
+        super.tickAll(beforePlayer);
+        if (!beforePlayer && !isClient()) {
+            updateSavedData(false);
+        }
+    }
+
+    @Override
+    public void onUnload() {
+        if (!isClient()) {
+            updateSavedData(true);
+        }
+        super.onUnload();
+    }
 
     /**
      * Returns true if this is a client world, false if we're on the server.
@@ -88,8 +131,10 @@ public abstract class AWrapperWorld extends EntityManager {
     public abstract IWrapperNBT getData(String name);
 
     /**
-     * Sends all saved data to the passed-in player.
-     * This is used
+     * Sets the saved data with the passed-in name.  On servers, the data will be sent to
+     * all clients at the end of the tick, and saved to disk with the other changed data
+     * on the next save interval.  Implementations should call {@link #markDataChanged(String)}
+     * for this on servers rather than doing it themselves.
      */
     public abstract void setData(String name, IWrapperNBT value);
 
@@ -99,6 +144,77 @@ public abstract class AWrapperWorld extends EntityManager {
      */
     public abstract File getDataFile();
 
+    /**
+     * Returns a copy of all saved data.  This copy must not share any data with the
+     * saved data, as it will be saved to disk on a different thread.
+     */
+    protected abstract IWrapperNBT copyData();
+
+    /**
+     * Writes the passed-in data to the passed-in file.  This is called off the main thread.
+     */
+    protected abstract void writeDataFile(IWrapperNBT data, File file) throws IOException;
+
+    /**
+     * Marks the saved data with the passed-in name as changed.  This will queue it for
+     * sending to clients and saving to disk.
+     */
+    protected void markDataChanged(String name) {
+        changedDataNames.add(name);
+        dataNeedsSaving = true;
+    }
+
+    /**
+     * Sends all saved data changed since the last call to clients in one packet, and saves the data to disk
+     * if the save interval has passed.  Saving is done on a separate thread with a copy of the data,
+     * so the server doesn't have to wait on it.  If forceSave is true, then the data is saved regardless of
+     * the interval, and this method will wait for the save to finish before returning.
+     */
+    private void updateSavedData(boolean forceSave) {
+        if (!changedDataNames.isEmpty()) {
+            Map<String, IWrapperNBT> changedData = new LinkedHashMap<>();
+            for (String name : changedDataNames) {
+                changedData.put(name, getData(name));
+            }
+            changedDataNames.clear();
+            InterfaceManager.packetInterface.sendToAllClients(new PacketWorldSavedDataUpdate(changedData));
+        }
+
+        long currentTime = System.currentTimeMillis();
+        if (dataNeedsSaving && (forceSave || currentTime >= nextDataSaveTime)) {
+            dataNeedsSaving = false;
+            nextDataSaveTime = currentTime + ConfigSystem.settings.general.dataSaveInterval.value * 1000L;
+            IWrapperNBT dataCopy = copyData();
+            File dataFile = getDataFile();
+            pendingDataSave = dataSaveExecutor.submit(() -> {
+                //Write to a temp file and then move it over the old file.  This way a crash while saving won't corrupt the data.
+                File tempFile = new File(dataFile.getParentFile(), dataFile.getName() + ".tmp");
+                try {
+                    writeDataFile(dataCopy, tempFile);
+                    try {
+                        Files.move(tempFile.toPath(), dataFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(tempFile.toPath(), dataFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } catch (Exception e) {
+                    InterfaceManager.coreInterface.logError("Could not save world data to disk!  Will try again on the next save.");
+                    e.printStackTrace();
+                    dataNeedsSaving = true;
+                }
+            });
+        }
+
+        if (forceSave && pendingDataSave != null) {
+            try {
+                pendingDataSave.get();
+            } catch (Exception e) {
+                InterfaceManager.coreInterface.logError("Interrupted while waiting for world data to save!  Data may have been lost.");
+                e.printStackTrace();
+            }
+            pendingDataSave = null;
+        }
+    }
+
     /**
      * Returns the entity that has the passed-in ID.
      * If the entity is a player, an instance of {@link IWrapperPlayer}
@@ -289,6 +405,15 @@ public abstract class AWrapperWorld extends EntityManager {
      */
     public abstract <TileEntityType extends ATileEntityBase<JSONDefinition>, JSONDefinition extends AJSONMultiModelProvider> boolean setBlock(ABlockBase block, Point3D position, IWrapperPlayer playerIWrapper, Axis axis);
 
+    /**
+     * Places all the passed-in blocks at their points, as if they were placed by
+     * {@link #setBlock(ABlockBase, Point3D, IWrapperPlayer, Axis)} without a player.
+     * Neighbors are only updated once all blocks are placed, and blocks in the batch
+     * aren't updated about each other, so this is faster than placing lots of
+     * touching blocks one at a time.
+     */
+    public abstract void setBlocks(Map<Point3D, ABlockBase> blocks);
+
     /**
      * Returns the tile entity at the passed-in position, or null if it doesn't exist in the world.
      * Only valid for TEs of type {@link ATileEntityBase} others will return null.
@@ -49,6 +49,11 @@ public interface IInterfaceCore {
      */
     void logError(String message);
 
+    /**
+     * Logs an informational message to the logging system.
+     */
+    void logInfo(String message);
+
     /**
      * Returns a new NBT IWrapper instance with no data.
      */
@@ -7,6 +7,8 @@ import minecrafttransportsimulator.blocks.tileentities.components.ATileEntityBas
 import minecrafttransportsimulator.entities.components.AEntityA_Base;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.systems.ProfilingSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem.Section;
 
 /**
  * Packet class that includes a default implementation for transmitting an entity
@@ -36,12 +38,16 @@ public abstract class APacketEntity<EntityType extends AEntityA_Base> extends AP
     @Override
     public void handle(AWrapperWorld world) {
         EntityType entity = world.getEntity(uniqueUUID);
-        if (entity != null && handle(world, entity) && !world.isClient()) {
-            InterfaceManager.packetInterface.sendToAllClients(this);
-            if (entity instanceof ATileEntityBase) {
-                //Need to set TEs as updated, as they don't normally do this.
-                ((ATileEntityBase<?>) entity).hasChanged = true;
+        if (entity != null) {
+            long profilingStartTime = ProfilingSystem.startSection();
+            if (handle(world, entity) && !world.isClient()) {
+                InterfaceManager.packetInterface.sendToAllClients(this);
+                if (entity instanceof ATileEntityBase) {
+                    //Need to set TEs as updated, as they don't normally do this.
+                    ((ATileEntityBase<?>) entity).hasChanged = true;
+                }
             }
+            ProfilingSystem.endSection(entity, Section.PACKETS, profilingStartTime);
         }
     }
 
@@ -1,5 +1,9 @@
 package minecrafttransportsimulator.packets.instances;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
 import io.netty.buffer.ByteBuf;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
@@ -7,45 +11,57 @@ import minecrafttransportsimulator.packets.components.APacketBase;
 
 /**
  * Packet used to update save data on clients from the server.
- * The string passed in will be the block to update.
+ * The map passed in will be the blocks to update, keyed by their names.
+ * This allows all blocks changed in a tick to be sent at once.
  *
  * @author don_bruce
  */
 public class PacketWorldSavedDataUpdate extends APacketBase {
-    private final String name;
-    private final IWrapperNBT data;
+    private final Map<String, IWrapperNBT> data;
 
     public PacketWorldSavedDataUpdate(String name, IWrapperNBT data) {
         super(null);
-        this.name = name;
+        this.data = new LinkedHashMap<>();
+        this.data.put(name, data);
+    }
+
+    public PacketWorldSavedDataUpdate(Map<String, IWrapperNBT> data) {
+        super(null);
         this.data = data;
     }
 
     public PacketWorldSavedDataUpdate(ByteBuf buf) {
         super(buf);
-        this.name = readStringFromBuffer(buf);
-        if (buf.readBoolean()) {
-            this.data = readDataFromBuffer(buf);
-        } else {
-            this.data = null;
+        this.data = new LinkedHashMap<>();
+        int count = buf.readInt();
+        for (int i = 0; i < count; ++i) {
+            String name = readStringFromBuffer(buf);
+            if (buf.readBoolean()) {
+                data.put(name, readDataFromBuffer(buf));
+            } else {
+                data.put(name, null);
+            }
         }
     }
 
     @Override
     public void writeToBuffer(ByteBuf buf) {
         super.writeToBuffer(buf);
-        writeStringToBuffer(name, buf);
-        if (data != null) {
-            buf.writeBoolean(true);
-            writeDataToBuffer(data, buf);
-        } else {
-            buf.writeBoolean(false);
+        buf.writeInt(data.size());
+        for (Entry<String, IWrapperNBT> dataEntry : data.entrySet()) {
+            writeStringToBuffer(dataEntry.getKey(), buf);
+            if (dataEntry.getValue() != null) {
+                buf.writeBoolean(true);
+                writeDataToBuffer(dataEntry.getValue(), buf);
+            } else {
+                buf.writeBoolean(false);
+            }
         }
     }
 
     @Override
     public void handle(AWrapperWorld world) {
-        world.setData(name, data);
+        data.forEach((name, value) -> world.setData(name, value));
     }
 
     @Override
@@ -13,6 +13,9 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -24,6 +27,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -697,6 +701,7 @@ public class JSONParser {
                     }
                 }
             }
+            PackMaterialComponent.clearRecipeCache();
             return returnErrorsOnly ? "" : "\nImported file: " + definitionToOverride.packID + ":" + definitionToOverride.systemName;
         } catch (Exception e) {
             e.printStackTrace();
@@ -747,13 +752,22 @@ public class JSONParser {
         Class<? extends Enum<?>> value();
     }
 
+    /**
+     * Validation plans for all classes that have been validated.  Finding the fields and annotations of a class
+     * is expensive, so we do it once per class rather than for every object of that class.  This is concurrent
+     * as validation may be done on multiple threads when loading packs.
+     */
+    private static final Map<Class<?>, ValidationPlan> validationPlans = new ConcurrentHashMap<>();
+
     /**
      * Helper method to validate fields.  Used for recursion.
      */
     public static void validateFields(Object obj, String priorObjects, int index) {
-        //First get all fields that have the annotation with no values.
-        for (Field field : obj.getClass().getFields()) {
-            String errorValue = checkRequiredState(field, obj, priorObjects, index);
+        ValidationPlan plan = validationPlans.computeIfAbsent(obj.getClass(), ValidationPlan::new);
+        for (FieldValidator validator : plan.validators) {
+            //First check if the field has the annotation with no values.
+            Object fieldValue = validator.getValue(obj);
+            String errorValue = validator.checkRequiredState(fieldValue, obj, priorObjects, index);
             if (errorValue != null) {
                 throw new NullPointerException(errorValue);
             }
@@ -762,78 +776,133 @@ public class JSONParser {
             //If we are a collection, validate each entry in ourselves rather than ourselves.
             //Only check for objects that are defined in the jsondefs class file.
             //If we extend recursion to others, it could get nasty...
-            if (obj.getClass().getPackage().getName().contains("jsondefs")) {
-                Object recursiveObject = null;
-                try {
-                    recursiveObject = field.get(obj);
-                } catch (Exception e) {
-                }
-
-                if (recursiveObject != null) {
-                    if (recursiveObject instanceof Collection) {
-                        int collectionIndex = 1;
-                        for (Object objEntry : ((Collection<?>) recursiveObject)) {
-                            if (objEntry != null) {
-                                validateFields(objEntry, priorObjects + field.getName() + "/", collectionIndex);
-                                ++collectionIndex;
-                            } else {
-                                throw new NullPointerException("Unable to parse entry #" + collectionIndex + " in variable set " + priorObjects + field.getName() + " due to it not existing.  Check your commas!");
-                            }
+            if (plan.recurse && fieldValue != null) {
+                if (fieldValue instanceof Collection) {
+                    int collectionIndex = 1;
+                    for (Object objEntry : ((Collection<?>) fieldValue)) {
+                        if (objEntry != null) {
+                            validateFields(objEntry, priorObjects + validator.fieldName + "/", collectionIndex);
+                            ++collectionIndex;
+                        } else {
+                            throw new NullPointerException("Unable to parse entry #" + collectionIndex + " in variable set " + priorObjects + validator.fieldName + " due to it not existing.  Check your commas!");
                         }
-                    } else if (!recursiveObject.getClass().isEnum()) {
-                        validateFields(recursiveObject, priorObjects + field.getName() + "/", 1);
                     }
+                } else if (!fieldValue.getClass().isEnum()) {
+                    validateFields(fieldValue, priorObjects + validator.fieldName + "/", 1);
                 }
             }
         }
     }
 
     /**
-     * Checks to see if the passed-in field is required, and is missing or corrupt.  If so,
-     * a text-based error message is returned.  If not, null is returned.
+     * Returns a handle that gets the value of the passed-in field from an object, or null if the field
+     * can't be accessed.  The handle is typed to take and return Objects, so primitives are boxed.
+     */
+    private static MethodHandle getFieldGetter(Field field) {
+        try {
+            return MethodHandles.publicLookup().unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the value of the field for the passed-in handle, or null if the handle is null or fails.
      */
-    private static String checkRequiredState(Field field, Object objectOn, String pathPrefix, int index) {
-        if (field.isAnnotationPresent(JSONRequired.class)) {
-            Object testObj = null;
+    private static Object getFieldValue(MethodHandle getter, Object obj) {
+        if (getter != null) {
             try {
-                testObj = field.get(objectOn);
-            } catch (Exception e) {
+                return (Object) getter.invokeExact(obj);
+            } catch (Throwable e) {
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Class that holds the pre-computed validation data for a class.  This contains a validator
+     * for each public field, and if the fields should be recursively validated.
+     */
+    private static class ValidationPlan {
+        private final FieldValidator[] validators;
+        private final boolean recurse;
+        private final Map<String, MethodHandle> getters = new HashMap<>();
+
+        private ValidationPlan(Class<?> objectClass) {
+            Field[] fields = objectClass.getFields();
+            for (Field field : fields) {
+                getters.put(field.getName(), getFieldGetter(field));
+            }
+            this.validators = new FieldValidator[fields.length];
+            for (int i = 0; i < fields.length; ++i) {
+                validators[i] = new FieldValidator(fields[i], this);
+            }
+            this.recurse = objectClass.getPackage() != null && objectClass.getPackage().getName().contains("jsondefs");
+        }
+    }
+
+    /**
+     * Class that holds the pre-computed validation data for a single field.  The {@link JSONRequired}
+     * annotation and the handles for the field and any fields it depends on are looked up once here.
+     */
+    private static class FieldValidator {
+        private final String fieldName;
+        private final MethodHandle getter;
+        private final JSONRequired annotation;
+        private final MethodHandle dependentGetter;
+
+        private FieldValidator(Field field, ValidationPlan plan) {
+            this.fieldName = field.getName();
+            this.getter = plan.getters.get(fieldName);
+            this.annotation = field.getAnnotation(JSONRequired.class);
+            if (annotation != null && !annotation.dependentField().isEmpty()) {
+                //Get the handle for the dependent field, or the sub-field the dependent field is in.
+                //The dependent field in the sub-field depends on the sub-field object's class, so is found when checking.
+                String dependentName = annotation.subField().isEmpty() ? annotation.dependentField() : annotation.subField();
+                this.dependentGetter = plan.getters.get(dependentName);
+                if (dependentGetter == null) {
+                    new NoSuchFieldException(dependentName).printStackTrace();
+                }
+            } else {
+                this.dependentGetter = null;
             }
+        }
+
+        private Object getValue(Object obj) {
+            return getFieldValue(getter, obj);
+        }
 
-            if (testObj == null) {
-                JSONRequired annotation = field.getAnnotation(JSONRequired.class);
+        /**
+         * Checks to see if the field is required, and is missing or corrupt.  If so,
+         * a text-based error message is returned.  If not, null is returned.
+         */
+        private String checkRequiredState(Object testObj, Object objectOn, String pathPrefix, int index) {
+            if (annotation != null && testObj == null) {
                 //If we need another field, get it to check.
                 String dependentVarName = annotation.dependentField();
                 if (!dependentVarName.isEmpty()) {
-                    Object depObj = null;
-                    try {
-                        if (annotation.subField().isEmpty()) {
-                            depObj = objectOn.getClass().getField(dependentVarName).get(objectOn);
-                        } else {
-                            depObj = objectOn.getClass().getField(annotation.subField()).get(objectOn);
-                            depObj = depObj.getClass().getField(dependentVarName).get(depObj);
-                        }
-                    } catch (Exception e) {
-                        e.printStackTrace();
+                    Object depObj = getFieldValue(dependentGetter, objectOn);
+                    if (depObj != null && !annotation.subField().isEmpty()) {
+                        depObj = getFieldValue(validationPlans.computeIfAbsent(depObj.getClass(), ValidationPlan::new).getters.get(dependentVarName), depObj);
                     }
 
                     if (depObj != null) {
                         //Have object.  If the object has to be a set of values to throw an error, check this.
                         if (annotation.dependentValues().length == 0) {
-                            return pathPrefix + field.getName() + ", entry #" + index + ", is required when '" + dependentVarName + "' is present!";
+                            return pathPrefix + fieldName + ", entry #" + index + ", is required when '" + dependentVarName + "' is present!";
                         } else {
                             for (String possibleValue : annotation.dependentValues()) {
                                 if (depObj.toString().startsWith(possibleValue)) {
-                                    return pathPrefix + field.getName() + ", entry #" + index + ", is required when value of '" + dependentVarName + "' is '" + depObj + "'!";
+                                    return pathPrefix + fieldName + ", entry #" + index + ", is required when value of '" + dependentVarName + "' is '" + depObj + "'!";
                                 }
                             }
                         }
                     }
                 } else {
-                    return pathPrefix + field.getName() + ", entry #" + index + ", is missing from the JSON and is required!";
+                    return pathPrefix + fieldName + ", entry #" + index + ", is missing from the JSON and is required!";
                 }
             }
+            return null;
         }
-        return null;
     }
 }
@@ -1,9 +1,11 @@
 package minecrafttransportsimulator.packloading;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import minecrafttransportsimulator.items.components.AItemPack;
 import minecrafttransportsimulator.items.components.AItemSubTyped;
@@ -21,10 +23,18 @@ public class PackMaterialComponent {
     public final int qty;
     public final int meta;
     public final List<IWrapperItemStack> possibleItems;
+    public final List<String> possibleItemNames;
     public static String lastErrorMessage;
     public static final Map<String, String> flattenedNames = generateFlattnedMappings();
     public static final Map<String, String> unflattenedNames = generateUnflattnedMappings();
 
+    /**
+     * Cache of parsed recipes.  Parsing recipes requires looking up the stacks for all the materials, which
+     * is expensive, and they are parsed every time a crafting GUI updates or an item is crafted.  Keyed by the
+     * item registration name, the recipe index, and the flags that were passed to {@link #parseFromJSON(AItemPack, int, boolean, boolean, boolean, boolean)}.
+     */
+    private static final Map<String, ParsedRecipe> recipeCache = new ConcurrentHashMap<>();
+
     public PackMaterialComponent(String itemText) {
         possibleItems = new ArrayList<>();
 
@@ -58,6 +68,11 @@ public class PackMaterialComponent {
                 possibleItems.add(stack);
             }
         }
+
+        possibleItemNames = new ArrayList<>();
+        for (IWrapperItemStack stack : possibleItems) {
+            possibleItemNames.add(InterfaceManager.coreInterface.getStackItemName(stack));
+        }
     }
 
     /**
@@ -67,8 +82,31 @@ public class PackMaterialComponent {
      * multiple items to be used.  If this component is not for crafting checks, set forCraftingCheck to false.
      * This prevents the returned stacks from having the wildcard value in their metadata and not being actual items.
      * If an error occured during parsing, then null is returned and {@link #lastErrorMessage} is set to the error.
+     * Results are cached, so the returned list, and the components in it, may not be modified.
      */
     public static List<PackMaterialComponent> parseFromJSON(AItemPack<?> item, int recipeIndex, boolean includeMain, boolean includeSub, boolean forRepair, boolean includeRepair) {
+        String recipeKey = item.getRegistrationName() + ":" + recipeIndex + (includeMain ? "M" : "") + (includeSub ? "S" : "") + (forRepair ? "R" : "") + (includeRepair ? "I" : "");
+        ParsedRecipe recipe = recipeCache.get(recipeKey);
+        if (recipe == null) {
+            List<PackMaterialComponent> components = parseRecipe(item, recipeIndex, includeMain, includeSub, forRepair, includeRepair);
+            recipe = new ParsedRecipe(components != null ? Collections.unmodifiableList(components) : null, components != null ? null : lastErrorMessage);
+            recipeCache.put(recipeKey, recipe);
+        }
+        if (recipe.components == null) {
+            lastErrorMessage = recipe.errorMessage;
+        }
+        return recipe.components;
+    }
+
+    /**
+     * Clears the recipe cache.  This should be called any time the material lists of items change, or
+     * the items that are in the oredict or tags might have changed.
+     */
+    public static void clearRecipeCache() {
+        recipeCache.clear();
+    }
+
+    private static List<PackMaterialComponent> parseRecipe(AItemPack<?> item, int recipeIndex, boolean includeMain, boolean includeSub, boolean forRepair, boolean includeRepair) {
         //Get all the strings that represent the items.
         List<String> itemTexts = new ArrayList<String>();
         String currentSubName = "";
@@ -126,6 +164,19 @@ public class PackMaterialComponent {
         //Return all materials.
         return components;
     }
+
+    /**
+     * Class that holds the result of parsing a recipe.  Either the components, or the error message if the recipe couldn't be parsed.
+     */
+    private static class ParsedRecipe {
+        private final List<PackMaterialComponent> components;
+        private final String errorMessage;
+
+        private ParsedRecipe(List<PackMaterialComponent> components, String errorMessage) {
+            this.components = components;
+            this.errorMessage = errorMessage;
+        }
+    }
     
     private static Map<String, String> generateFlattnedMappings(){
         Map<String, String> map = new HashMap<>();
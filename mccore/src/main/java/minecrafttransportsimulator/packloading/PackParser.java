@@ -1,15 +1,33 @@
 package minecrafttransportsimulator.packloading;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -31,12 +49,14 @@ import minecrafttransportsimulator.jsondefs.AJSONMultiModelProvider;
 import minecrafttransportsimulator.jsondefs.JSONBlock;
 import minecrafttransportsimulator.jsondefs.JSONBullet;
 import minecrafttransportsimulator.jsondefs.JSONConfigSettings;
+import minecrafttransportsimulator.jsondefs.JSONCraftingBench;
 import minecrafttransportsimulator.jsondefs.JSONDecor;
 import minecrafttransportsimulator.jsondefs.JSONInstrument;
 import minecrafttransportsimulator.jsondefs.JSONItem;
 import minecrafttransportsimulator.jsondefs.JSONPack;
 import minecrafttransportsimulator.jsondefs.JSONPanel;
 import minecrafttransportsimulator.jsondefs.JSONPart;
+import minecrafttransportsimulator.jsondefs.JSONPartDefinition;
 import minecrafttransportsimulator.jsondefs.JSONPoleComponent;
 import minecrafttransportsimulator.jsondefs.JSONRoadComponent;
 import minecrafttransportsimulator.jsondefs.JSONSkin;
@@ -95,6 +115,26 @@ public final class PackParser {
      **/
     private static final Map<String, Map<String, JSONPanel>> panelMap = new HashMap<>();
 
+    /**
+     * Catalog of all pack items.  This contains the item lists and indexes that are used by GUIs and other systems
+     * that need to look though the registered items.  It is created the first time it is needed after items are
+     * registered, and is cleared any time an item is registered so it will be re-created with the new item.
+     **/
+    private static volatile PackItemCatalog catalog;
+
+    /**
+     * Pool used for parallel pack parsing.  Only exists while packs are being parsed.
+     **/
+    private static ForkJoinPool packLoadingPool;
+
+    /**
+     * Directory and version for the pack definition cache.  This holds the definitions of each pack after
+     * legacy compatibility and validation have been performed on them, so we don't have to do this every launch.
+     * The version should be incremented any time the cache file format changes.
+     **/
+    private static final File DEFINITION_CACHE_DIRECTORY = new File(InterfaceManager.gameDirectory, "mts_cache" + File.separator + "packs");
+    private static final int DEFINITION_CACHE_VERSION = 1;
+
     /**
      * Comparator used for sorting pack items.
      **/
@@ -376,22 +416,76 @@ public final class PackParser {
             }
 
             //Load the pack components into the game.
-            //We iterate over all the sub-folders we found from the packDef checks.
-            PackStructure structure = PackStructure.values()[packDef.fileStructure];
-            for (String subDirectory : validSubDirectories) {
-                String assetPathPrefix = "assets/" + packDef.packID + "/";
-                if (!subDirectory.isEmpty()) {
-                    assetPathPrefix += subDirectory + "/";
+            //If the pack hasn't changed since the last launch, we use the cached definitions.
+            //If not, we scan the pack jar once for all the sub-folders we found from the packDef checks.
+            //Definitions are then parsed and validated, in parallel if enabled, and registered in the order they were found.
+            long packStartTime = System.nanoTime();
+            String cacheKey = ConfigSystem.settings.general.packDefinitionCache.value ? getDefinitionCacheKey(packDef, validSubDirectories) : null;
+            List<PackEntry> cachedEntries = cacheKey != null ? loadDefinitionCache(packDef, cacheKey) : null;
+            List<PackEntry> packEntries = cachedEntries != null ? cachedEntries : getPackEntries(packDef, validSubDirectories, cacheKey != null);
+            if (ConfigSystem.settings.general.parallelPackLoading.value && packEntries.size() > 1) {
+                if (packLoadingPool == null) {
+                    packLoadingPool = new ForkJoinPool();
                 }
-
                 try {
-                    ZipFile jarFile = new ZipFile(packJarMap.get(packDef.packID));
-                    Enumeration<? extends ZipEntry> entries = jarFile.entries();
-                    while (entries.hasMoreElements()) {
-                        //Get next entry and path.
-                        ZipEntry entry = entries.nextElement();
-                        String entryFullPath = entry.getName();
-                        if (entryFullPath.startsWith(assetPathPrefix) && entryFullPath.endsWith(".json")) {
+                    packLoadingPool.submit(() -> packEntries.parallelStream().forEach(PackEntry::prepare)).get();
+                } catch (Exception e) {
+                    InterfaceManager.coreInterface.logError("Could not do parallel parsing of pack: " + packDef.packID + ".  Finishing parsing on the loading thread.");
+                    e.printStackTrace();
+                }
+            }
+            int definitionsRegistered = 0;
+            for (PackEntry packEntry : packEntries) {
+                //Prepare again here in case we didn't do it in parallel, or the parallel operation was interrupted.
+                packEntry.prepare();
+                if (packEntry.definition != null) {
+                    registerPreparedItem(packEntry.definition);
+                    ++definitionsRegistered;
+                }
+            }
+            if (cacheKey != null && cachedEntries == null) {
+                saveDefinitionCache(packDef, cacheKey, packEntries);
+            }
+            InterfaceManager.coreInterface.logInfo("Loaded " + definitionsRegistered + " definitions from pack " + packDef.packID + (cachedEntries != null ? " from cache" : "") + " in " + (System.nanoTime() - packStartTime) / 1000000 + "ms");
+        }
+        if (packLoadingPool != null) {
+            packLoadingPool.shutdown();
+            packLoadingPool = null;
+        }
+    }
+
+    /**
+     * Scans the jar of the passed-in pack for all definition JSONs in the passed-in sub-directories.
+     * The JSON data is read into memory for parsing.  Entries are returned in the same order as the
+     * sub-directories, and in the order they are in the jar for each sub-directory.
+     */
+    private static List<PackEntry> getPackEntries(JSONPack packDef, List<String> validSubDirectories, boolean exportPrepared) {
+        List<PackEntry> packEntries = new ArrayList<>();
+        if (validSubDirectories.isEmpty()) {
+            return packEntries;
+        }
+        List<List<PackEntry>> subDirectoryEntries = new ArrayList<>();
+        List<String> assetPathPrefixes = new ArrayList<>();
+        for (String subDirectory : validSubDirectories) {
+            String assetPathPrefix = "assets/" + packDef.packID + "/";
+            if (!subDirectory.isEmpty()) {
+                assetPathPrefix += subDirectory + "/";
+            }
+            assetPathPrefixes.add(assetPathPrefix);
+            subDirectoryEntries.add(new ArrayList<>());
+        }
+
+        PackStructure structure = PackStructure.values()[packDef.fileStructure];
+        try (ZipFile jarFile = new ZipFile(packJarMap.get(packDef.packID))) {
+            Enumeration<? extends ZipEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                //Get next entry and path.
+                ZipEntry entry = entries.nextElement();
+                String entryFullPath = entry.getName();
+                if (entryFullPath.endsWith(".json")) {
+                    for (int i = 0; i < assetPathPrefixes.size(); ++i) {
+                        String assetPathPrefix = assetPathPrefixes.get(i);
+                        if (entryFullPath.startsWith(assetPathPrefix)) {
                             //JSON is in correct folder.  Get path properties and ensure they match our specs.
                             //Need the asset folder structure between the main prefix and the asset itself.
                             //This lets us know what asset we need to create as all assets are in their own folders.
@@ -419,33 +513,198 @@ public final class PackParser {
                                     continue;
                                 }
 
-                                //Create the JSON instance.
-                                String systemName = fileName.substring(0, fileName.length() - ".json".length());
-                                AJSONBase definition;
-                                try {
-                                    definition = JSONParser.parseStream(jarFile.getInputStream(entry), classification.representingClass, packDef.packID, systemName);
-                                } catch (Exception e) {
-                                    InterfaceManager.coreInterface.logError("Could not parse: " + packDef.packID + ":" + fileName);
-                                    InterfaceManager.coreInterface.logError(e.getMessage());
-                                    continue;
+                                //Read the JSON data now, so we don't need the jar open while parsing.
+                                byte[] jsonData;
+                                try (InputStream stream = jarFile.getInputStream(entry)) {
+                                    ByteArrayOutputStream dataStream = new ByteArrayOutputStream(entry.getSize() > 0 ? (int) entry.getSize() : 8192);
+                                    byte[] buffer = new byte[8192];
+                                    int bytesRead;
+                                    while ((bytesRead = stream.read(buffer)) != -1) {
+                                        dataStream.write(buffer, 0, bytesRead);
+                                    }
+                                    jsonData = dataStream.toByteArray();
                                 }
-
-                                //Remove the classification folder from the assetPath.  We don't use this for the resource-loading code.
-                                //Instead, this will be loaded by referencing the definition.  This also allows us to omit the path
-                                //if we are loading a non-default pack format.
-                                definition.packID = packDef.packID;
-                                definition.systemName = systemName;
-                                definition.classification = classification;
-                                definition.prefixFolders = assetPath.substring(classification.toDirectory().length());
-                                registerItem(definition);
+                                subDirectoryEntries.get(i).add(new PackEntry(packDef.packID, fileName, assetPath, classification, jsonData, false, exportPrepared));
                             }
                         }
                     }
+                }
+            }
+        } catch (Exception e) {
+            InterfaceManager.coreInterface.logError("Could not start parsing of pack: " + packDef.packID);
+            e.printStackTrace();
+        }
+
+        subDirectoryEntries.forEach(packEntries::addAll);
+        return packEntries;
+    }
+
+    /**
+     * Returns the key for the definition cache of the passed-in pack.  This changes any time the pack jar,
+     * the core mod, or any of the settings that affect the prepared definitions are changed.  Jars are
+     * checked by their contents as well as their size and modified time, as copy tools can keep both of
+     * those the same for a re-built jar.  If the key can't be created, null is returned and the cache is not used.
+     */
+    private static String getDefinitionCacheKey(JSONPack packDef, List<String> validSubDirectories) {
+        try {
+            //Legacy compatibility and validation code lives in the core mod, so if it changes, so might the definitions.
+            String coreLocation = LegacyCompatSystem.class.getProtectionDomain().getCodeSource().getLocation().toString();
+            if (coreLocation.startsWith("jar:")) {
+                coreLocation = coreLocation.substring("jar:".length(), coreLocation.indexOf("!"));
+            }
+            File coreJar = new File(new URI(coreLocation));
+            File packJar = packJarMap.get(packDef.packID);
+            return DEFINITION_CACHE_VERSION + ";" + packJar.getName() + ":" + packJar.length() + ":" + packJar.lastModified() + ":" + getJarHash(packJar) + ";" + coreJar.length() + ":" + coreJar.lastModified() + ":" + getJarHash(coreJar) + ";" + ConfigSystem.settings.general.doLegacyLightCompats.value + ";" + String.join(",", validSubDirectories);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a hash of the contents of the passed-in jar.  This only reads the jar's directory, as that has
+     * the name, size, and CRC of every file in the jar, so it changes if any file does.  If the passed-in
+     * file isn't a jar, such as a folder in a development environment, 0 is returned.
+     */
+    private static long getJarHash(File jarFile) throws Exception {
+        if (!jarFile.isFile()) {
+            return 0;
+        }
+        CRC32 hash = new CRC32();
+        try (ZipFile jar = new ZipFile(jarFile)) {
+            Enumeration<? extends ZipEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                hash.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+                long entryValue = entry.getCrc() ^ (entry.getSize() << 32);
+                for (int i = 0; i < 8; ++i) {
+                    hash.update((int) (entryValue >>> (i * 8)));
+                }
+            }
+        }
+        return hash.getValue();
+    }
+
+    /**
+     * Loads the cached definitions for the passed-in pack.  If there are no cached definitions,
+     * or they were cached with a different key, null is returned.
+     */
+    private static List<PackEntry> loadDefinitionCache(JSONPack packDef, String cacheKey) {
+        File cacheFile = new File(DEFINITION_CACHE_DIRECTORY, packDef.packID + ".bin");
+        if (cacheFile.exists()) {
+            try (DataInputStream stream = new DataInputStream(new GZIPInputStream(new BufferedInputStream(new FileInputStream(cacheFile))))) {
+                if (stream.readInt() == DEFINITION_CACHE_VERSION && stream.readUTF().equals(cacheKey)) {
+                    int entryCount = stream.readInt();
+                    List<PackEntry> packEntries = new ArrayList<>(entryCount);
+                    for (int i = 0; i < entryCount; ++i) {
+                        ItemClassification classification = ItemClassification.valueOf(stream.readUTF());
+                        String fileName = stream.readUTF();
+                        String assetPath = stream.readUTF();
+                        byte[] jsonData = new byte[stream.readInt()];
+                        stream.readFully(jsonData);
+                        packEntries.add(new PackEntry(packDef.packID, fileName, assetPath, classification, jsonData, true, false));
+                    }
+                    return packEntries;
+                }
+            } catch (Exception e) {
+                //Bad cache file, we'll just parse the pack and re-create it.
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Saves the prepared definitions of the passed-in pack entries to the definition cache.  If any entry
+     * failed to parse or validate, the cache is not saved.  This ensures that the errors are shown every
+     * launch until the pack is fixed, rather than the bad definitions silently missing.
+     */
+    private static void saveDefinitionCache(JSONPack packDef, String cacheKey, List<PackEntry> packEntries) {
+        for (PackEntry packEntry : packEntries) {
+            if (packEntry.preparedData == null) {
+                return;
+            }
+        }
+        File cacheFile = new File(DEFINITION_CACHE_DIRECTORY, packDef.packID + ".bin");
+        DEFINITION_CACHE_DIRECTORY.mkdirs();
+        try (DataOutputStream stream = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(cacheFile))))) {
+            stream.writeInt(DEFINITION_CACHE_VERSION);
+            stream.writeUTF(cacheKey);
+            stream.writeInt(packEntries.size());
+            for (PackEntry packEntry : packEntries) {
+                stream.writeUTF(packEntry.classification.name());
+                stream.writeUTF(packEntry.fileName);
+                stream.writeUTF(packEntry.assetPath);
+                stream.writeInt(packEntry.preparedData.length);
+                stream.write(packEntry.preparedData);
+                packEntry.preparedData = null;
+            }
+        } catch (Exception e) {
+            InterfaceManager.coreInterface.logError("Could not save definition cache for pack: " + packDef.packID);
+            cacheFile.delete();
+        }
+    }
+
+    /**
+     * Class that represents a single definition JSON in a pack.  Preparing the entry parses the
+     * JSON and performs the legacy compatibility and validation on it, which does not depend on any
+     * other definitions and so may be done on any thread.  Registration must be done afterwards on
+     * the loading thread.  Entries loaded from the definition cache were prepared when they were cached,
+     * so they are only parsed.
+     */
+    private static class PackEntry {
+        private final String packID;
+        private final String fileName;
+        private final String assetPath;
+        private final ItemClassification classification;
+        private final boolean fromCache;
+        private final boolean exportPrepared;
+        private byte[] jsonData;
+        private byte[] preparedData;
+        private AJSONBase definition;
 
-                    //Done parsing.  Close the jarfile.
-                    jarFile.close();
+        private PackEntry(String packID, String fileName, String assetPath, ItemClassification classification, byte[] jsonData, boolean fromCache, boolean exportPrepared) {
+            this.packID = packID;
+            this.fileName = fileName;
+            this.assetPath = assetPath;
+            this.classification = classification;
+            this.jsonData = jsonData;
+            this.fromCache = fromCache;
+            this.exportPrepared = exportPrepared;
+        }
+
+        private void prepare() {
+            if (jsonData != null) {
+                //Create the JSON instance.
+                String systemName = fileName.substring(0, fileName.length() - ".json".length());
+                AJSONBase parsedDefinition;
+                try {
+                    parsedDefinition = JSONParser.parseStream(new ByteArrayInputStream(jsonData), classification.representingClass, packID, systemName);
                 } catch (Exception e) {
-                    InterfaceManager.coreInterface.logError("Could not start parsing of pack: " + packDef.packID);
+                    InterfaceManager.coreInterface.logError("Could not parse: " + packID + ":" + fileName);
+                    InterfaceManager.coreInterface.logError(e.getMessage());
+                    jsonData = null;
+                    return;
+                }
+                jsonData = null;
+
+                //Remove the classification folder from the assetPath.  We don't use this for the resource-loading code.
+                //Instead, this will be loaded by referencing the definition.  This also allows us to omit the path
+                //if we are loading a non-default pack format.
+                parsedDefinition.packID = packID;
+                parsedDefinition.systemName = systemName;
+                parsedDefinition.classification = classification;
+                parsedDefinition.prefixFolders = assetPath.substring(classification.toDirectory().length());
+                try {
+                    if (!fromCache) {
+                        prepareItem(parsedDefinition);
+                        if (exportPrepared) {
+                            ByteArrayOutputStream dataStream = new ByteArrayOutputStream();
+                            JSONParser.exportStream(parsedDefinition, dataStream);
+                            preparedData = dataStream.toByteArray();
+                        }
+                    }
+                    definition = parsedDefinition;
+                } catch (Exception e) {
+                    InterfaceManager.coreInterface.logError(e.getMessage());
                     e.printStackTrace();
                 }
             }
@@ -468,11 +727,32 @@ public final class PackParser {
      */
     public static void registerItem(AJSONBase itemDef) {
         try {
-            //Do legacy compats before validating the JSON.
-            //This will populate any required fields that were not in older versions.
-            LegacyCompatSystem.performLegacyCompats(itemDef);
-            JSONParser.validateFields(itemDef, itemDef.packID + ":" + itemDef.systemName + "/", 1);
+            prepareItem(itemDef);
+        } catch (Exception e) {
+            InterfaceManager.coreInterface.logError(e.getMessage());
+            e.printStackTrace();
+            return;
+        }
+        registerPreparedItem(itemDef);
+    }
 
+    /**
+     * Performs the legacy compatibility and validation on the passed-in definition.
+     * This only modifies the definition itself, so may be called on any thread.
+     */
+    private static void prepareItem(AJSONBase itemDef) {
+        //Do legacy compats before validating the JSON.
+        //This will populate any required fields that were not in older versions.
+        LegacyCompatSystem.performLegacyCompats(itemDef);
+        JSONParser.validateFields(itemDef, itemDef.packID + ":" + itemDef.systemName + "/", 1);
+    }
+
+    /**
+     * Creates and registers the items for the passed-in definition.  The definition must have already
+     * been prepared via {@link #prepareItem(AJSONBase)}.
+     */
+    private static void registerPreparedItem(AJSONBase itemDef) {
+        try {
             //Create all required items.
             if (itemDef instanceof AJSONMultiModelProvider) {
                 //Check if the definition is a skin.  If so, we need to just add it to the skin map for processing later.
@@ -520,6 +800,7 @@ public final class PackParser {
                         packItemMap.put(item.definition.packID, new HashMap<>());
                     }
                     packItemMap.get(item.definition.packID).put(item.definition.systemName, item);
+                    catalog = null;
                 }
             }
         } catch (Exception e) {
@@ -615,6 +896,7 @@ public final class PackParser {
             packItemMap.put(mainDefinition.packID, new HashMap<>());
         }
         packItemMap.get(mainDefinition.packID).putAll(packItems);
+        catalog = null;
     }
 
     /**
@@ -635,6 +917,7 @@ public final class PackParser {
                 packSpecificItemMap.put(packItem.definition.systemName, packItem);
             }
         }
+        catalog = null;
     }
 
     //--------------------START OF HELPER METHODS--------------------
@@ -663,20 +946,136 @@ public final class PackParser {
         return packMap.get(packID);
     }
 
+    /**
+     * Returns all items for the passed-in pack, sorted if requested.  The returned list is shared and may not be modified.
+     */
     public static List<AItemPack<?>> getAllItemsForPack(String packID, boolean sorted) {
-        List<AItemPack<?>> packItems = new ArrayList<>(packItemMap.get(packID).values());
-        if (sorted) {
-            packItems.sort(packComparator);
-        }
-        return packItems;
+        List<AItemPack<?>> packItems = (sorted ? getCatalog().sortedPackItems : getCatalog().packItems).get(packID);
+        return packItems != null ? packItems : Collections.emptyList();
     }
 
+    /**
+     * Returns all items for all packs.  The returned list is shared and may not be modified.
+     */
     public static List<AItemPack<?>> getAllPackItems() {
-        List<AItemPack<?>> packItems = new ArrayList<>();
-        for (String packID : packItemMap.keySet()) {
-            packItems.addAll(getAllItemsForPack(packID, false));
+        return getCatalog().allItems;
+    }
+
+    /**
+     * Returns all part types, in the order they were first found in the registered items.
+     */
+    public static Set<String> getAllPartTypes() {
+        return Collections.unmodifiableSet(getCatalog().partsByType.keySet());
+    }
+
+    /**
+     * Returns all part items that can go into the passed-in part slot, grouped by the slot's types.
+     * This only checks the parts that have a type the slot accepts, rather than all items.
+     */
+    public static List<AItemPart> getPartsForSlot(JSONPartDefinition placementDefinition, JSONSubDefinition subDefinition, boolean checkMinMax) {
+        PackItemCatalog currentCatalog = getCatalog();
+        List<AItemPart> validParts = new ArrayList<>();
+        for (String type : placementDefinition.types) {
+            List<AItemPart> typeParts = currentCatalog.partsByType.get(type);
+            if (typeParts != null) {
+                for (AItemPart part : typeParts) {
+                    if (part.isPartValidForPackDef(placementDefinition, subDefinition, checkMinMax) && !validParts.contains(part)) {
+                        validParts.add(part);
+                    }
+                }
+            }
+        }
+        return validParts;
+    }
+
+    /**
+     * Returns all items that can be crafted on the passed-in bench, in the same order as {@link #getAllPackItems()}.
+     * The returned list is shared and may not be modified.
+     */
+    public static List<AItemPack<?>> getItemsForBench(JSONCraftingBench craftingDefinition) {
+        return getCatalog().getBenchItems(craftingDefinition).allItems;
+    }
+
+    /**
+     * Returns all items in the passed-in pack that can be crafted on the passed-in bench, in sorted order.
+     * The returned list is shared and may not be modified.
+     */
+    public static List<AItemPack<?>> getItemsForBench(JSONCraftingBench craftingDefinition, String packID) {
+        List<AItemPack<?>> packItems = getCatalog().getBenchItems(craftingDefinition).sortedPackItems.get(packID);
+        return packItems != null ? packItems : Collections.emptyList();
+    }
+
+    private static PackItemCatalog getCatalog() {
+        PackItemCatalog currentCatalog = catalog;
+        if (currentCatalog == null) {
+            currentCatalog = new PackItemCatalog();
+            catalog = currentCatalog;
+        }
+        return currentCatalog;
+    }
+
+    /**
+     * Class that holds all item lists and indexes for the registered items.  All lists are created
+     * when the catalog is, except the bench lists.  These are created the first time each bench asks for them.
+     */
+    private static class PackItemCatalog {
+        private final List<AItemPack<?>> allItems;
+        private final Map<String, List<AItemPack<?>>> packItems = new HashMap<>();
+        private final Map<String, List<AItemPack<?>>> sortedPackItems = new HashMap<>();
+        private final Map<String, List<AItemPart>> partsByType = new LinkedHashMap<>();
+        private final Map<JSONCraftingBench, BenchItems> benchItems = new ConcurrentHashMap<>();
+
+        private PackItemCatalog() {
+            List<AItemPack<?>> items = new ArrayList<>();
+            for (Entry<String, HashMap<String, AItemPack<?>>> packEntry : packItemMap.entrySet()) {
+                List<AItemPack<?>> packSpecificItems = new ArrayList<>(packEntry.getValue().values());
+                items.addAll(packSpecificItems);
+                packItems.put(packEntry.getKey(), Collections.unmodifiableList(packSpecificItems));
+                List<AItemPack<?>> sortedItems = new ArrayList<>(packSpecificItems);
+                sortedItems.sort(packComparator);
+                sortedPackItems.put(packEntry.getKey(), Collections.unmodifiableList(sortedItems));
+            }
+            allItems = Collections.unmodifiableList(items);
+            for (AItemPack<?> item : allItems) {
+                if (item instanceof AItemPart) {
+                    AItemPart part = (AItemPart) item;
+                    partsByType.computeIfAbsent(part.definition.generic.type, k -> new ArrayList<>()).add(part);
+                }
+            }
+        }
+
+        private BenchItems getBenchItems(JSONCraftingBench craftingDefinition) {
+            return benchItems.computeIfAbsent(craftingDefinition, k -> new BenchItems(this, k));
+        }
+    }
+
+    /**
+     * Class that holds the items that can be crafted on a single bench.
+     */
+    private static class BenchItems {
+        private final List<AItemPack<?>> allItems;
+        private final Map<String, List<AItemPack<?>>> sortedPackItems = new HashMap<>();
+
+        private BenchItems(PackItemCatalog catalog, JSONCraftingBench craftingDefinition) {
+            List<AItemPack<?>> items = new ArrayList<>();
+            for (AItemPack<?> item : catalog.allItems) {
+                if (item.isBenchValid(craftingDefinition)) {
+                    items.add(item);
+                }
+            }
+            allItems = Collections.unmodifiableList(items);
+            for (Entry<String, List<AItemPack<?>>> packEntry : catalog.sortedPackItems.entrySet()) {
+                List<AItemPack<?>> sortedItems = new ArrayList<>();
+                for (AItemPack<?> item : packEntry.getValue()) {
+                    if (item.isBenchValid(craftingDefinition)) {
+                        sortedItems.add(item);
+                    }
+                }
+                if (!sortedItems.isEmpty()) {
+                    sortedPackItems.put(packEntry.getKey(), Collections.unmodifiableList(sortedItems));
+                }
+            }
         }
-        return packItems;
     }
 
     public static JSONPanel getPackPanel(String packID, String systemName) {
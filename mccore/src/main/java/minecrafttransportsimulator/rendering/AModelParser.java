@@ -2,10 +2,22 @@ package minecrafttransportsimulator.rendering;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import minecrafttransportsimulator.entities.components.AEntityD_Definable;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.systems.ConfigSystem;
 
 /**
  * Abstract class for parsing models.  This contains methods for determining what models
@@ -13,12 +25,27 @@ import minecrafttransportsimulator.entities.components.AEntityD_Definable;
  * It also stores a list of created parsers for use when requesting a model be parsed.
  * By default, an OBJ parser is created when this class is first accessed, but one may
  * add other parsers as they see fit.
+ * <br><br>
+ * Models may also be pre-loaded via {@link #preloadModel(String)}.  This parses the model on a
+ * background worker thread and hands the finished vertices back to the render thread through a queue,
+ * which prevents the stall that would otherwise occur the first time a new model is rendered.
+ * <br><br>
+ * Parsed models are kept in a least-recently-used cache that is bounded by
+ * {@link minecrafttransportsimulator.jsondefs.JSONConfigClient.JSONRenderingSettings#modelCacheSize}.
+ * Models are referenced by every live {@link RenderableModelObject} created from them, and only
+ * un-referenced models are removed from the cache when it is over-budget.
  *
  * @author don_bruce
  */
 public abstract class AModelParser {
     private static final Map<String, AModelParser> parsers = new HashMap<>();
-    private static final Map<String, List<RenderableVertices>> parsedVertices = new HashMap<>();
+    private static final LinkedHashMap<String, CachedModel> parsedModels = new LinkedHashMap<>(16, 0.75F, true);
+    private static long cachedModelBytes;
+    private static final Map<RenderableVertices, RenderableVertices> windowBackfaces = new ConcurrentHashMap<>();
+    private static final Set<String> modelsPreloading = ConcurrentHashMap.newKeySet();
+    private static final Set<String> modelsFailedPreloading = ConcurrentHashMap.newKeySet();
+    private static final ConcurrentLinkedQueue<PreloadedModel> preloadedModels = new ConcurrentLinkedQueue<>();
+    private static ExecutorService preloadExecutor;
     public static final String WINDOW_OBJECT_NAME = "window";
     public static final String ONLINE_TEXTURE_OBJECT_NAME = "url";
     public static final String TRANSLUCENT_OBJECT_NAME = "translucent";
@@ -52,14 +79,19 @@ public abstract class AModelParser {
     public static List<RenderableVertices> parseModel(String modelLocation, boolean returnCached) {
         List<RenderableVertices> vertices = null;
         if (returnCached) {
-            vertices = parsedVertices.get(modelLocation);
+            synchronized (parsedModels) {
+                CachedModel cachedModel = parsedModels.get(modelLocation);
+                if (cachedModel != null) {
+                    vertices = cachedModel.vertices;
+                }
+            }
         }
         if (vertices == null) {
             AModelParser parser = parsers.get(modelLocation.substring(modelLocation.lastIndexOf(".") + 1));
             if (parser != null) {
                 vertices = parser.parseModelInternal(modelLocation);
                 if (returnCached) {
-                    parsedVertices.put(modelLocation, vertices);
+                    vertices = addToCache(modelLocation, vertices);
                 }
             } else {
                 throw new IllegalArgumentException("No parser found for model format of " + modelLocation.substring(modelLocation.lastIndexOf(".") + 1));
@@ -78,8 +110,212 @@ public abstract class AModelParser {
         String modelLocation = entity.definition.getModelLocation(entity.subDefinition);
         List<RenderableModelObject> modelObjects = new ArrayList<>();
         for (RenderableVertices parsedObject : parseModel(modelLocation, true)) {
-            modelObjects.add(new RenderableModelObject(entity, parsedObject));
+            modelObjects.add(new RenderableModelObject(entity, modelLocation, parsedObject));
         }
         return modelObjects;
     }
+
+    /**
+     * Returns the back-face of the passed-in window vertices.  The back-face is created once and is shared
+     * between all models that use the same vertices.  Note that window vertices have their texture bounds
+     * set to the full glass texture prior to creating the back-face, as this is how windows are rendered.
+     */
+    public static RenderableVertices getWindowBackface(RenderableVertices windowVertices) {
+        return windowBackfaces.computeIfAbsent(windowVertices, k -> {
+            k.setTextureBounds(0, 1, 0, 1);
+            return k.createBackface();
+        });
+    }
+
+    /**
+     * Requests the passed-in model be parsed on a background thread.  Once parsed, the model will be
+     * available to the render thread for use in {@link #generateRenderables(AEntityD_Definable)}
+     * without needing to be parsed again.  If the model is already parsed or being parsed, or
+     * background loading is disabled, this method does nothing.
+     */
+    public static void preloadModel(String modelLocation) {
+        int threads = ConfigSystem.client.renderingSettings.modelLoaderThreads.value;
+        if (threads > 0 && !isModelCached(modelLocation) && !modelsFailedPreloading.contains(modelLocation) && modelsPreloading.add(modelLocation)) {
+            AModelParser parser = parsers.get(modelLocation.substring(modelLocation.lastIndexOf(".") + 1));
+            if (parser == null) {
+                //Let the normal parsing call handle the error.
+                modelsPreloading.remove(modelLocation);
+                return;
+            }
+            if (preloadExecutor == null) {
+                preloadExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+                    Thread thread = new Thread(runnable, "MTS-ModelPreloader");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+            }
+            preloadExecutor.execute(() -> {
+                try {
+                    List<RenderableVertices> vertices = parser.parseModelInternal(modelLocation);
+                    //Build window back-faces here too, since they are a full copy of the window vertices.
+                    for (RenderableVertices object : vertices) {
+                        if (object.name.toLowerCase(Locale.ROOT).contains(WINDOW_OBJECT_NAME)) {
+                            getWindowBackface(object);
+                        }
+                    }
+                    preloadedModels.add(new PreloadedModel(modelLocation, vertices));
+                } catch (Exception e) {
+                    preloadedModels.add(new PreloadedModel(modelLocation, null));
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns true if the model at the passed-in location is ready to be used for rendering.
+     * This should only be called from the render thread, as this hands off all models
+     * that have finished pre-loading to the main cache.  If a model is not parsed, and
+     * isn't being pre-loaded, then this will return true, as it is expected the model
+     * will be parsed on the calling thread.  This is also the case for models that failed
+     * pre-loading, which lets the normal parsing logic report the error.
+     */
+    public static boolean isModelReady(String modelLocation) {
+        PreloadedModel preloadedModel;
+        while ((preloadedModel = preloadedModels.poll()) != null) {
+            if (preloadedModel.vertices != null) {
+                if (addToCache(preloadedModel.modelLocation, preloadedModel.vertices) != preloadedModel.vertices) {
+                    //Model was parsed on this thread while we were pre-loading it, so our copy isn't used.
+                    //Remove the back-faces we made for it, as they won't be removed with the cached model.
+                    preloadedModel.vertices.forEach(object -> windowBackfaces.remove(object));
+                }
+            } else {
+                InterfaceManager.coreInterface.logError("Could not pre-load model " + preloadedModel.modelLocation + ", will re-try parsing on the render thread.");
+                modelsFailedPreloading.add(preloadedModel.modelLocation);
+            }
+            modelsPreloading.remove(preloadedModel.modelLocation);
+        }
+        return !modelsPreloading.contains(modelLocation);
+    }
+
+    /**
+     * Adds a reference to the cached model at the passed-in location.  Referenced models will not
+     * be removed from the cache.  This should be called for every object created from the cached
+     * model, with {@link #removeModelReference(String)} being called when that object is destroyed.
+     */
+    public static void addModelReference(String modelLocation) {
+        synchronized (parsedModels) {
+            CachedModel cachedModel = parsedModels.get(modelLocation);
+            if (cachedModel != null) {
+                ++cachedModel.references;
+            }
+        }
+    }
+
+    /**
+     * Removes a reference to the cached model at the passed-in location.  If the model is no longer referenced,
+     * and the cache is over its budget, un-referenced models will be removed from the cache.
+     */
+    public static void removeModelReference(String modelLocation) {
+        synchronized (parsedModels) {
+            CachedModel cachedModel = parsedModels.get(modelLocation);
+            if (cachedModel != null && cachedModel.references > 0 && --cachedModel.references == 0) {
+                trimCache(null);
+            }
+        }
+    }
+
+    /**
+     * Returns a debug report of the model cache.  The first line is the cache totals, with
+     * each other line being the totals for a single pack, sorted by pack ID.
+     */
+    public static List<String> getCacheReport() {
+        List<String> report = new ArrayList<>();
+        Map<String, long[]> packTotals = new TreeMap<>();
+        synchronized (parsedModels) {
+            report.add("Model cache: " + parsedModels.size() + " models, " + (cachedModelBytes >> 10) + "/" + ((long) ConfigSystem.client.renderingSettings.modelCacheSize.value << 10) + " KB");
+            for (Entry<String, CachedModel> modelEntry : parsedModels.entrySet()) {
+                //Totals are stored as count, referenced count, and bytes.
+                long[] totals = packTotals.computeIfAbsent(getPackID(modelEntry.getKey()), k -> new long[3]);
+                ++totals[0];
+                if (modelEntry.getValue().references > 0) {
+                    ++totals[1];
+                }
+                totals[2] += modelEntry.getValue().bytes;
+            }
+        }
+        packTotals.forEach((packID, totals) -> report.add(packID + ": " + totals[0] + " models (" + totals[1] + " in use), " + (totals[2] >> 10) + " KB"));
+        return report;
+    }
+
+    private static boolean isModelCached(String modelLocation) {
+        synchronized (parsedModels) {
+            return parsedModels.containsKey(modelLocation);
+        }
+    }
+
+    /**
+     * Adds the vertices to the cache, returning the vertices that are now cached.
+     * If the model was already cached by another thread, the existing vertices are returned.
+     */
+    private static List<RenderableVertices> addToCache(String modelLocation, List<RenderableVertices> vertices) {
+        synchronized (parsedModels) {
+            CachedModel cachedModel = parsedModels.get(modelLocation);
+            if (cachedModel == null) {
+                cachedModel = new CachedModel(vertices);
+                parsedModels.put(modelLocation, cachedModel);
+                cachedModelBytes += cachedModel.bytes;
+                //Don't trim the model we just added, as nothing has had a chance to reference it yet.
+                trimCache(modelLocation);
+            }
+            return cachedModel.vertices;
+        }
+    }
+
+    /**
+     * Removes the least-recently-used un-referenced models until the cache is under-budget.
+     * The model at the passed-in location is never removed, if one is given.
+     * Must be called while holding the lock on the cache.
+     */
+    private static void trimCache(String keptModelLocation) {
+        long maxBytes = (long) ConfigSystem.client.renderingSettings.modelCacheSize.value << 20;
+        Iterator<Entry<String, CachedModel>> iterator = parsedModels.entrySet().iterator();
+        while (cachedModelBytes > maxBytes && iterator.hasNext()) {
+            Entry<String, CachedModel> modelEntry = iterator.next();
+            CachedModel cachedModel = modelEntry.getValue();
+            if (cachedModel.references == 0 && !modelEntry.getKey().equals(keptModelLocation)) {
+                iterator.remove();
+                cachedModelBytes -= cachedModel.bytes;
+                cachedModel.vertices.forEach(object -> windowBackfaces.remove(object));
+            }
+        }
+    }
+
+    private static String getPackID(String modelLocation) {
+        //Models are stored as /assets/packID/..., so get the second path segment.
+        int packStart = modelLocation.indexOf('/', 1) + 1;
+        int packEnd = modelLocation.indexOf('/', packStart);
+        return packStart > 0 && packEnd > packStart ? modelLocation.substring(packStart, packEnd) : modelLocation;
+    }
+
+    private static class CachedModel {
+        private final List<RenderableVertices> vertices;
+        private final long bytes;
+        private int references;
+
+        private CachedModel(List<RenderableVertices> vertices) {
+            this.vertices = vertices;
+            long vertexBytes = 0;
+            for (RenderableVertices object : vertices) {
+                //Window objects also have a back-face that is the same size as them.
+                vertexBytes += (long) object.vertices.capacity() * Float.BYTES * (object.name.toLowerCase(Locale.ROOT).contains(WINDOW_OBJECT_NAME) ? 2 : 1);
+            }
+            this.bytes = vertexBytes;
+        }
+    }
+
+    private static class PreloadedModel {
+        private final String modelLocation;
+        private final List<RenderableVertices> vertices;
+
+        private PreloadedModel(String modelLocation, List<RenderableVertices> vertices) {
+            this.modelLocation = modelLocation;
+            this.vertices = vertices;
+        }
+    }
 }
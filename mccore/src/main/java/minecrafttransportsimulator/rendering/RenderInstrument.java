@@ -1,5 +1,7 @@
 package minecrafttransportsimulator.rendering;
 
+import java.util.Arrays;
+
 import minecrafttransportsimulator.baseclasses.AnimationSwitchbox;
 import minecrafttransportsimulator.baseclasses.ComputedVariable;
 import minecrafttransportsimulator.baseclasses.Point3D;
@@ -22,7 +24,7 @@ import minecrafttransportsimulator.systems.ConfigSystem;
  */
 public final class RenderInstrument {
     private static int partNumber = 0;
-    private static RenderableData renderable = null;
+    private static final TransformationMatrix componentTransform = new TransformationMatrix();
     private static final TransformationMatrix textTransform = new TransformationMatrix();
     private static final Point3D textureCoord1 = new Point3D();
     private static final Point3D textureCoord2 = new Point3D();
@@ -30,6 +32,7 @@ public final class RenderInstrument {
     private static final Point3D textureCoord4 = new Point3D();
     private static final RotationMatrix helperRotation = new RotationMatrix();
     private static final RotationMatrix helperRotationMatrix = new RotationMatrix();
+    private static final double[] helperSpriteState = new double[InstrumentRenderPlan.SPRITE_STATE_SIZE];
 
     /**
      * Renders the passed-in instrument using the entity's current state.  Note that this method does NOT take any
@@ -39,8 +42,8 @@ public final class RenderInstrument {
      * negations in translation transforms.
      */
     public static void drawInstrument(AEntityE_Interactable<?> entity, TransformationMatrix transform, int slot, boolean onGUI, boolean blendingEnabled, float partialTicks) {
-        //Get the item and slot definition here, as that's needed for future calls.
-        ItemInstrument instrument = entity.instruments.get(slot);
+        //Get the render plan and slot definition here, as that's needed for future calls.
+        InstrumentRenderPlan plan = entity.instrumentRenderPlans.get(slot);
         JSONInstrumentDefinition slotDefinition = entity.definition.instruments.get(slot);
 
         //Check if the lights are on.  If so, render the overlays and the text lit if requested.
@@ -55,82 +58,110 @@ public final class RenderInstrument {
             partNumber = 1;
         }
 
+        //Check if we need to update the components, or if we can just render them as they were last time.
+        //Instruments on the GUI always update, as they are always close.  World ones follow the entity LOD.
+        int passBit = blendingEnabled ? 2 : 1;
+        boolean updateFrame = onGUI || entity.isLODUpdateFrame() || (plan.updatedPasses & passBit) == 0;
+        if (updateFrame) {
+            if (onGUI) {
+                //GUI uses a different scale, so the world needs to update next time it renders.
+                plan.updatedPasses = 0;
+            } else {
+                plan.updatedPasses |= passBit;
+            }
+        }
+
         //Finally, render the instrument based on the JSON instrument.definitions.
-        //We cache up all the draw calls for this blend pass, and then render them all at once.
-        //This is more efficient than rendering each one individually.
-        for (int i = 0; i < instrument.definition.components.size(); ++i) {
-            JSONInstrumentComponent component = instrument.definition.components.get(i);
+        //Consecutive sprite components with the same lighting state are put into a single batch and
+        //rendered in one call.  Batches are flushed before text and on state changes to keep draw order.
+        int batchStart = -1;
+        int batchEnd = -1;
+        boolean batchLit = false;
+        boolean batchTranslucent = false;
+        for (int i = 0; i < plan.components.length; ++i) {
+            JSONInstrumentComponent component = plan.components[i];
             boolean renderLit = ((component.lightUpTexture && lightsOn) || component.alwaysLit) && ConfigSystem.client.renderingSettings.brightLights.value;
             if (component.overlayTexture && blendingEnabled || ((renderLit && !component.overlayTexture) ? (ConfigSystem.client.renderingSettings.lightsTransp.value == blendingEnabled) : (component.overlayTexture == blendingEnabled))) {
                 //If we have text, do a text render.  Otherwise, do a normal instrument render.
+                InstrumentSwitchbox switchbox = plan.switchboxes[i];
                 if (component.textObject != null) {
-                    //Also translate slightly away from the instrument location to prevent clipping.
-                    textTransform.set(transform);
-                    textTransform.applyTranslation(0, 0, i * RenderableVertices.Z_BUFFER_OFFSET);
-                    double totalScaling = slotScale * component.scale;
-                    textTransform.applyScaling(totalScaling, totalScaling, totalScaling);
-
-                    //Render if we don't have transforms, or of those transforms said we were good.
-                    InstrumentSwitchbox switchbox = entity.instrumentComponentSwitchboxes.get(component);
-                    if (switchbox == null || switchbox.runSwitchbox(partialTicks, true)) {
-                        String value = entity.getRawTextVariableValue(component.textObject, partialTicks);
-                        if (value != null) {
-                            value = String.format(component.textObject.variableFormat, value);
-                        } else {
-                            value = String.format(component.textObject.variableFormat, getInstrumentVariableValue(entity, null, component.textObject.variableName, component.textObject.variableFactor, partialTicks) + component.textObject.variableOffset);
+                    if (batchStart != -1) {
+                        plan.renderBatch(entity, transform, batchStart, batchEnd, batchLit, batchTranslucent, onGUI);
+                        batchStart = -1;
+                    }
+
+                    if (updateFrame) {
+                        //Also translate slightly away from the instrument location to prevent clipping.
+                        textTransform.resetTransforms();
+                        textTransform.applyTranslation(0, 0, i * RenderableVertices.Z_BUFFER_OFFSET);
+                        double totalScaling = slotScale * component.scale;
+                        textTransform.applyScaling(totalScaling, totalScaling, totalScaling);
+
+                        //Render if we don't have transforms, or of those transforms said we were good.
+                        plan.visible[i] = switchbox == null || switchbox.runSwitchbox(partialTicks, true);
+                        if (plan.visible[i]) {
+                            plan.textTransforms[i].set(textTransform);
+                            plan.updateText(entity, i, partialTicks);
                         }
-                        RenderText.draw3DText(value, entity, textTransform, component.textObject, true, renderLit);
+                    }
+                    if (plan.visible[i] && plan.texts[i] != null) {
+                        textTransform.set(transform).multiply(plan.textTransforms[i]);
+                        RenderText.draw3DText(plan.texts[i], entity, textTransform, component.textObject, true, renderLit);
                     }
                 } else {
                     //Init variables.
-                    renderable = entity.instrumentRenderables.get(slot).get(i);
-                    renderable.setTexture("/assets/" + instrument.definition.packID + "/textures/" + instrument.definition.textureName);
-                    renderable.transform.set(transform);
-                    renderable.transform.applyTranslation(0.0, 0.0, i * RenderableVertices.Z_BUFFER_OFFSET);
-                    renderable.transform.applyScaling(slotScale, slotScale, slotScale);
-                    textureCoord1.set(-component.textureWidth / 2D, -component.textureHeight / 2D, 0);
-                    textureCoord2.set(-component.textureWidth / 2D, component.textureHeight / 2D, 0);
-                    textureCoord3.set(component.textureWidth / 2D, component.textureHeight / 2D, 0);
-                    textureCoord4.set(component.textureWidth / 2D, -component.textureHeight / 2D, 0);
-
-                    //Render if we don't have transforms, or of those transforms said we were good.
-                    InstrumentSwitchbox switchbox = entity.instrumentComponentSwitchboxes.get(component);
-                    if (switchbox == null || switchbox.runSwitchbox(partialTicks, true)) {
-                        //Add the instrument UV-map offsets.
-                        //These don't get added to the initial points to allow for rotation.
-                        //Divide the Points by 1024.  This converts the points from pixels to the 0-1 UV values.
-                        textureCoord1.add(component.textureXCenter, component.textureYCenter, 0).scale(1D / 1024D);
-                        textureCoord2.add(component.textureXCenter, component.textureYCenter, 0).scale(1D / 1024D);
-                        textureCoord3.add(component.textureXCenter, component.textureYCenter, 0).scale(1D / 1024D);
-                        textureCoord4.add(component.textureXCenter, component.textureYCenter, 0).scale(1D / 1024D);
-
-                        //Translate to the component.
-                        renderable.transform.applyTranslation(component.xCenter, -component.yCenter, 0);
-
-                        //Scale to match definition.
-                        renderable.transform.applyScaling(component.scale, component.scale, component.scale);
-
-                        //Set points to the variables here and render them.
+                    int spriteIndex = plan.spriteIndexes[i];
+                    if (updateFrame) {
+                        componentTransform.resetTransforms();
+                        componentTransform.applyTranslation(0.0, 0.0, i * RenderableVertices.Z_BUFFER_OFFSET);
+                        componentTransform.applyScaling(slotScale, slotScale, slotScale);
+                        textureCoord1.set(-component.textureWidth / 2D, -component.textureHeight / 2D, 0);
+                        textureCoord2.set(-component.textureWidth / 2D, component.textureHeight / 2D, 0);
+                        textureCoord3.set(component.textureWidth / 2D, component.textureHeight / 2D, 0);
+                        textureCoord4.set(component.textureWidth / 2D, -component.textureHeight / 2D, 0);
+
+                        //Render if we don't have transforms, or of those transforms said we were good.
+                        plan.visible[i] = switchbox == null || switchbox.runSwitchbox(partialTicks, true);
+                        if (plan.visible[i]) {
+                            //Add the instrument UV-map offsets.
+                            //These don't get added to the initial points to allow for rotation.
+                            //Divide the Points by 1024.  This converts the points from pixels to the 0-1 UV values.
+                            textureCoord1.add(component.textureXCenter, component.textureYCenter, 0).scale(1D / 1024D);
+                            textureCoord2.add(component.textureXCenter, component.textureYCenter, 0).scale(1D / 1024D);
+                            textureCoord3.add(component.textureXCenter, component.textureYCenter, 0).scale(1D / 1024D);
+                            textureCoord4.add(component.textureXCenter, component.textureYCenter, 0).scale(1D / 1024D);
+
+                            //Translate to the component.
+                            componentTransform.applyTranslation(component.xCenter, -component.yCenter, 0);
+
+                            //Scale to match definition.
+                            componentTransform.applyScaling(component.scale, component.scale, component.scale);
+
+                            //Update the sprite for this component if it changed since the last time we rendered it.
+                            plan.updateSprite(component, spriteIndex);
+                        }
+                    }
+                    if (plan.visible[i] && plan.spriteStates[spriteIndex] != null) {
                         //If the shape is lit, disable lighting for blending.
-                        renderable.setLightValue(entity.worldLightValue);
-                        if (component.overlayTexture || (renderLit && ConfigSystem.client.renderingSettings.lightsTransp.value)) {
-                            renderable.setTransucentOverride();
-                        } else {
-                            renderable.clearTranslucentOverride();
+                        //If we can't add to the current batch, render it and start a new one.
+                        boolean translucent = component.overlayTexture || (renderLit && ConfigSystem.client.renderingSettings.lightsTransp.value);
+                        if (batchStart != -1 && (batchEnd != spriteIndex || batchLit != renderLit || batchTranslucent != translucent)) {
+                            plan.renderBatch(entity, transform, batchStart, batchEnd, batchLit, batchTranslucent, onGUI);
+                            batchStart = -1;
                         }
-                        if (renderLit) {
-                            renderable.setLightMode(LightingMode.IGNORE_ALL_LIGHTING);
-                        } else {
-                            renderable.setLightMode(onGUI ? LightingMode.IGNORE_ORIENTATION_LIGHTING : LightingMode.NORMAL);
+                        if (batchStart == -1) {
+                            batchStart = spriteIndex;
+                            batchLit = renderLit;
+                            batchTranslucent = translucent;
                         }
-                        
-                        //Need to invert Y here since we're using pixel-based coords.
-                        renderable.vertexObject.setSpritePropertiesAdvancedTexture(0, -component.textureWidth / 2, component.textureHeight / 2, component.textureWidth, component.textureHeight, (float) textureCoord1.x, (float) textureCoord1.y, (float) textureCoord2.x, (float) textureCoord2.y, (float) textureCoord3.x, (float) textureCoord3.y, (float) textureCoord4.x, (float) textureCoord4.y);
-                        renderable.render();
+                        batchEnd = spriteIndex + 1;
                     }
                 }
             }
         }
+        if (batchStart != -1) {
+            plan.renderBatch(entity, transform, batchStart, batchEnd, batchLit, batchTranslucent, onGUI);
+        }
     }
 
     private static double getInstrumentVariableValue(AEntityD_Definable<?> entity, DurationDelayClock clock, String variable, double scaleFactor, float partialTicks) {
@@ -153,6 +184,136 @@ public final class RenderInstrument {
         return value;
     }
 
+    /**
+     * Render plan for an instrument in a slot.  This holds all the per-component information that doesn't change
+     * frame-to-frame, as well as the sprites for all non-text components and the last text values, so we
+     * don't re-create them unless something actually changed.
+     */
+    public static class InstrumentRenderPlan {
+        //12 transform values, and 8 UV values.
+        private static final int SPRITE_STATE_SIZE = 20;
+
+        private final JSONInstrumentComponent[] components;
+        private final InstrumentSwitchbox[] switchboxes;
+        private final String texture;
+        private final int[] spriteIndexes;
+        private final RenderableVertices sprites;
+        private final RenderableData[] batches;
+        private final double[][] spriteStates;
+        private final String[] texts;
+        private final String[] lastRawTexts;
+        private final double[] lastValues;
+        private final boolean[] visible;
+        private final TransformationMatrix[] textTransforms;
+        private int updatedPasses;
+
+        public InstrumentRenderPlan(AEntityE_Interactable<?> entity, ItemInstrument instrument) {
+            int componentCount = instrument.definition.components.size();
+            this.components = instrument.definition.components.toArray(new JSONInstrumentComponent[componentCount]);
+            this.switchboxes = new InstrumentSwitchbox[componentCount];
+            this.texture = ("/assets/" + instrument.definition.packID + "/textures/" + instrument.definition.textureName).intern();
+            this.spriteIndexes = new int[componentCount];
+            this.texts = new String[componentCount];
+            this.lastRawTexts = new String[componentCount];
+            this.lastValues = new double[componentCount];
+            this.visible = new boolean[componentCount];
+            this.textTransforms = new TransformationMatrix[componentCount];
+
+            int spriteCount = 0;
+            for (int i = 0; i < componentCount; ++i) {
+                switchboxes[i] = entity.instrumentComponentSwitchboxes.get(components[i]);
+                if (components[i].textObject != null) {
+                    spriteIndexes[i] = -1;
+                    textTransforms[i] = new TransformationMatrix();
+                } else {
+                    spriteIndexes[i] = spriteCount++;
+                }
+            }
+            this.sprites = RenderableVertices.createSprite(spriteCount, null, null);
+            this.batches = new RenderableData[spriteCount];
+            this.spriteStates = new double[spriteCount][];
+        }
+
+        /**
+         * Sets the sprite at the passed-in index to the current texture coords and component transform, if they have changed.
+         */
+        private void updateSprite(JSONInstrumentComponent component, int spriteIndex) {
+            helperSpriteState[0] = componentTransform.m00;
+            helperSpriteState[1] = componentTransform.m01;
+            helperSpriteState[2] = componentTransform.m02;
+            helperSpriteState[3] = componentTransform.m03;
+            helperSpriteState[4] = componentTransform.m10;
+            helperSpriteState[5] = componentTransform.m11;
+            helperSpriteState[6] = componentTransform.m12;
+            helperSpriteState[7] = componentTransform.m13;
+            helperSpriteState[8] = componentTransform.m20;
+            helperSpriteState[9] = componentTransform.m21;
+            helperSpriteState[10] = componentTransform.m22;
+            helperSpriteState[11] = componentTransform.m23;
+            helperSpriteState[12] = textureCoord1.x;
+            helperSpriteState[13] = textureCoord1.y;
+            helperSpriteState[14] = textureCoord2.x;
+            helperSpriteState[15] = textureCoord2.y;
+            helperSpriteState[16] = textureCoord3.x;
+            helperSpriteState[17] = textureCoord3.y;
+            helperSpriteState[18] = textureCoord4.x;
+            helperSpriteState[19] = textureCoord4.y;
+            if (spriteStates[spriteIndex] == null || !Arrays.equals(spriteStates[spriteIndex], helperSpriteState)) {
+                //Need to invert Y here since we're using pixel-based coords.
+                sprites.setSpritePropertiesAdvancedTexture(spriteIndex, -component.textureWidth / 2, component.textureHeight / 2, component.textureWidth, component.textureHeight, (float) textureCoord1.x, (float) textureCoord1.y, (float) textureCoord2.x, (float) textureCoord2.y, (float) textureCoord3.x, (float) textureCoord3.y, (float) textureCoord4.x, (float) textureCoord4.y);
+                sprites.transformSprite(spriteIndex, componentTransform);
+                spriteStates[spriteIndex] = helperSpriteState.clone();
+            }
+        }
+
+        /**
+         * Renders the sprites from start to end (exclusive) as a single batch with the passed-in lighting state.
+         */
+        private void renderBatch(AEntityE_Interactable<?> entity, TransformationMatrix transform, int start, int end, boolean renderLit, boolean translucent, boolean onGUI) {
+            RenderableData batch = batches[start];
+            if (batch == null) {
+                batch = new RenderableData(sprites.createSpriteView(start), texture);
+                batches[start] = batch;
+            }
+            batch.vertexObject.setSpriteCount(end - start);
+            batch.transform.set(transform);
+            batch.setLightValue(entity.worldLightValue);
+            if (translucent) {
+                batch.setTransucentOverride();
+            } else {
+                batch.clearTranslucentOverride();
+            }
+            if (renderLit) {
+                batch.setLightMode(LightingMode.IGNORE_ALL_LIGHTING);
+            } else {
+                batch.setLightMode(onGUI ? LightingMode.IGNORE_ORIENTATION_LIGHTING : LightingMode.NORMAL);
+            }
+            batch.render();
+        }
+
+        /**
+         * Updates the formatted text for the passed-in component.  The text is only re-formatted if the
+         * value it is based on changed since the last call.
+         */
+        private void updateText(AEntityE_Interactable<?> entity, int componentIndex, float partialTicks) {
+            JSONInstrumentComponent component = components[componentIndex];
+            String rawValue = entity.getRawTextVariableValue(component.textObject, partialTicks);
+            if (rawValue != null) {
+                if (texts[componentIndex] == null || !rawValue.equals(lastRawTexts[componentIndex])) {
+                    texts[componentIndex] = String.format(component.textObject.variableFormat, rawValue);
+                    lastRawTexts[componentIndex] = rawValue;
+                }
+            } else {
+                double value = getInstrumentVariableValue(entity, null, component.textObject.variableName, component.textObject.variableFactor, partialTicks) + component.textObject.variableOffset;
+                if (texts[componentIndex] == null || lastRawTexts[componentIndex] != null || value != lastValues[componentIndex]) {
+                    texts[componentIndex] = String.format(component.textObject.variableFormat, value);
+                    lastRawTexts[componentIndex] = null;
+                    lastValues[componentIndex] = value;
+                }
+            }
+        }
+    }
+
     /**
      * Custom instrument switchbox class.
      */
@@ -189,7 +350,7 @@ public final class RenderInstrument {
                 }
             } else if (component.moveComponent) {
                 //Translate the rather than adjust the window coords.
-                renderable.transform.applyTranslation(xTranslation, yTranslation, 0);
+                componentTransform.applyTranslation(xTranslation, yTranslation, 0);
             } else if (component.textObject != null) {
                 //Text object needs translating with basic operations.
                 textTransform.applyTranslation(xTranslation, yTranslation, 0);
@@ -244,10 +405,10 @@ public final class RenderInstrument {
                 textTransform.applyRotation(helperRotationMatrix);
                 textTransform.applyTranslation(-(component.xCenter + clock.animation.centerPoint.x), (component.yCenter + clock.animation.centerPoint.y), 0.0);
             } else {
-                renderable.transform.applyTranslation((component.xCenter + clock.animation.centerPoint.x), -(component.yCenter + clock.animation.centerPoint.y), 0.0);
+                componentTransform.applyTranslation((component.xCenter + clock.animation.centerPoint.x), -(component.yCenter + clock.animation.centerPoint.y), 0.0);
                 helperRotationMatrix.setToAxisAngle(0, 0, 1, variableValue);
-                renderable.transform.applyRotation(helperRotationMatrix);
-                renderable.transform.applyTranslation(-(component.xCenter + clock.animation.centerPoint.x), (component.yCenter + clock.animation.centerPoint.y), 0.0);
+                componentTransform.applyRotation(helperRotationMatrix);
+                componentTransform.applyTranslation(-(component.xCenter + clock.animation.centerPoint.x), (component.yCenter + clock.animation.centerPoint.y), 0.0);
             }
         }
     }
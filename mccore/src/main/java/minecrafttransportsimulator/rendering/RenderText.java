@@ -1,11 +1,25 @@
 package minecrafttransportsimulator.rendering;
 
 import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.FloatBuffer;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
 
 import javax.imageio.ImageIO;
 
@@ -127,22 +141,39 @@ public class RenderText {
         private static final String DEFAULT_FONT_BASE_LOCATION = InterfaceManager.renderingInterface.getDefaultFontTextureFolder() + "/unicode_page_";
         private static final Point3D adjustmentOffset = new Point3D();
 
+        private static final int METRICS_CACHE_VERSION = 1;
+        private static final File METRICS_CACHE_DIRECTORY = new File(InterfaceManager.gameDirectory, "mts_cache" + File.separator + "fonts");
+
         /**
-         * Texture locations for the font files.
+         * Texture locations for the font files.  These are set as each sheet is loaded.
          **/
         private final String[] fontLocations = new String[Character.MAX_VALUE / CHARS_PER_TEXTURE_SHEET];
+        /**
+         * Which texture sheets have been loaded.  Sheets are only loaded when a char on them is used.
+         **/
+        private final boolean[] pagesLoaded = new boolean[fontLocations.length];
+        /**
+         * Base location for the texture sheets of this font.
+         **/
+        private final String fontBaseLocation;
+        /**
+         * File that stores the char metrics of this font, and the metrics loaded from it.
+         * This prevents needing to decode the texture sheets to get metrics on every launch.
+         **/
+        private final File metricsFile;
+        private final Map<Integer, CachedPageMetrics> cachedPageMetrics = new TreeMap<>();
         /**
          * Char scale.  Normally 1.0, but can be more or less depending on the char ratio.
          * Standard ASCII font is 7px tall out of 8, so this ratio is a scale of 1.0.
          * Unicode font is 10px tall out of 16, or 5 out of 8.
          * Therefore, standard unicode scale is (7/8)/(5/8) = 1.4.
          **/
-        private final float charScale;
+        private float charScale = 1.0F;
         /**
          * Offset of the char from the top of the texture sheet, in actual game texture pixels (not texture pixels).
          * Used to know how far to adjust chars for this font up and down during rendering. 
          **/
-        private final float charTopOffset;
+        private float charTopOffset;
         /**
          * Char width, in actual game texture pixels (not texture pixels).  May be fractions of a pixel if the font is up-scaled.
          **/
@@ -200,141 +231,222 @@ public class RenderText {
 
         private FontData(String fontName) {
             //Get font locations.
-            String fontBaseLocation;
             if (fontName == null) {
-                fontBaseLocation = DEFAULT_FONT_BASE_LOCATION;
+                this.fontBaseLocation = DEFAULT_FONT_BASE_LOCATION;
+                this.metricsFile = new File(METRICS_CACHE_DIRECTORY, "default.bin");
             } else {
-                fontBaseLocation = "/assets/" + fontName.substring(0, fontName.indexOf(":")) + "/textures/fonts/" + fontName.substring(fontName.indexOf(":") + 1) + "/unicode_page_";
+                this.fontBaseLocation = "/assets/" + fontName.substring(0, fontName.indexOf(":")) + "/textures/fonts/" + fontName.substring(fontName.indexOf(":") + 1) + "/unicode_page_";
+                this.metricsFile = new File(METRICS_CACHE_DIRECTORY, fontName.replace(':', '.').replaceAll("[^a-zA-Z0-9._-]", "_") + ".bin");
+            }
+
+            //Load cached metrics, and then the first page.
+            //We always need the first page as it has the chars used for scaling and text effects.
+            loadMetricsCache();
+            loadPage(0);
+        }
+
+        /**
+         * Loads the texture sheets for all chars in the passed-in text, if they haven't been loaded already.
+         */
+        private void loadPages(String text) {
+            for (int i = 0; i < text.length(); ++i) {
+                int page = text.charAt(i) / CHARS_PER_TEXTURE_SHEET;
+                if (page < pagesLoaded.length && !pagesLoaded[page]) {
+                    loadPage(page);
+                }
+            }
+        }
+
+        /**
+         * Loads the metrics for the passed-in texture sheet.  If the sheet is in the metrics cache, and
+         * hasn't been changed since it was cached, the cached metrics are used.  Otherwise, the sheet
+         * is decoded and the metrics are calculated from its pixels and saved to the cache.
+         */
+        private void loadPage(int page) {
+            pagesLoaded[page] = true;
+            fontLocations[page] = String.format("%s%02x.png", fontBaseLocation, page);
+            byte[] sheetData = readSheet(fontLocations[page]);
+            if (sheetData == null && !fontBaseLocation.equals(DEFAULT_FONT_BASE_LOCATION)) {
+                //Try to get the data from the default sheet, if we aren't using it.
+                fontLocations[page] = String.format("%s%02x.png", DEFAULT_FONT_BASE_LOCATION, page);
+                sheetData = readSheet(fontLocations[page]);
+            }
+            if (sheetData == null) {
+                //Still null.  We don't have this sheet and therefore shouldn't care about it.
+                return;
             }
 
-            //Parse char widths and the height when applicable.
-            float scale = 1.0F;
-            float charTopOffset = 0;
-            for (int i = 0; i < fontLocations.length; ++i) {
-                fontLocations[i] = String.format("%s%02x.png", fontBaseLocation, i);
+            CRC32 checksum = new CRC32();
+            checksum.update(sheetData);
+            CachedPageMetrics cachedMetrics = cachedPageMetrics.get(page);
+            if (cachedMetrics != null && cachedMetrics.checksum == checksum.getValue() && cachedMetrics.location.equals(fontLocations[page])) {
+                cachedMetrics.apply(this, page);
+            } else {
                 BufferedImage bufferedImage = null;
                 try {
-                    bufferedImage = ImageIO.read(InterfaceManager.renderingInterface.getTextureStream(fontLocations[i]));
+                    bufferedImage = ImageIO.read(new ByteArrayInputStream(sheetData));
                 } catch (Exception e) {
                 }
-                if (bufferedImage == null) {
-                    //Try to get the data from the default sheet, if we aren't using it.
-                    if (!fontBaseLocation.equals(DEFAULT_FONT_BASE_LOCATION)) {
-                        fontBaseLocation = DEFAULT_FONT_BASE_LOCATION;
-                        fontLocations[i] = String.format("%s%02x.png", fontBaseLocation, i);
-                        try {
-                            bufferedImage = ImageIO.read(InterfaceManager.renderingInterface.getTextureStream(fontLocations[i]));
-                        } catch (Exception e) {
-                        }
-                    }
+                if (bufferedImage != null) {
+                    measurePage(page, bufferedImage);
+                    cachedPageMetrics.put(page, new CachedPageMetrics(this, page, fontLocations[page], checksum.getValue()));
+                    saveMetricsCache();
                 }
-                if (bufferedImage == null) {
-                    //Still null.  We don't have this sheet and therefore shouldn't care about it.
-                    continue;
+            }
+        }
+
+        private static byte[] readSheet(String sheetLocation) {
+            try (InputStream stream = InterfaceManager.renderingInterface.getTextureStream(sheetLocation)) {
+                if (stream != null) {
+                    ByteArrayOutputStream sheetData = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[8192];
+                    int bytesRead;
+                    while ((bytesRead = stream.read(buffer)) != -1) {
+                        sheetData.write(buffer, 0, bytesRead);
+                    }
+                    return sheetData.toByteArray();
                 }
+            } catch (Exception e) {
+            }
+            return null;
+        }
 
-                //Calculate min/max.
-                //For each char, we look at the row/col bounds and check every pixel in the col
-                //starting from right to left.  If we hit a pixel in this col sub-section, we know we
-                //have found the end of the char and that's its width.
-                //Order is all chars in row 1, then row 2, etc.
-                int pixelsPerSide = bufferedImage.getHeight();
-                int pixelsPerCharRowCol = pixelsPerSide / CHARS_PER_ROWCOL;
-                for (int charRow = 0; charRow < CHARS_PER_ROWCOL; ++charRow) {
-                    for (int charCol = 0; charCol < CHARS_PER_ROWCOL; ++charCol) {
-                        //Get char and set defaults.
-                        char charChecking = (char) (i * CHARS_PER_TEXTURE_SHEET + charRow * CHARS_PER_ROWCOL + charCol);
-                        if (charChecking == '0') {
-                            //We will always have 0, and it's a known-height char, so use this for our scale checks.
-                            //Look top-down for pixels to see if we have any gaps.
-                            boolean foundTopPixel = false;
-                            int topPixel = charRow * pixelsPerCharRowCol;
-                            int bottomPixel = (charRow + 1) * pixelsPerCharRowCol - 1;
-                            for (int pixelRow = charRow * pixelsPerCharRowCol; pixelRow < (charRow + 1) * pixelsPerCharRowCol; ++pixelRow) {
-                                boolean foundPixelThisRow = false;
-                                for (int pixelCol = charCol * pixelsPerCharRowCol; pixelCol < (charCol + 1) * pixelsPerCharRowCol; ++pixelCol) {
-                                    //Check all pixels in this row to see if we have one.
-                                    //Check for alpha and color.  Some systems write color, but no alpha to a pixel.
-                                    int pixelValue = bufferedImage.getRGB(pixelCol, pixelRow);
-                                    if (pixelValue != 0 && (pixelValue >> 24) != 0) {
-                                        foundPixelThisRow = true;
-                                        if (!foundTopPixel) {
-                                            //First existing pixel found, must be top.
-                                            topPixel = pixelRow;
-                                            foundTopPixel = true;
-                                            charTopOffset = (float) DEFAULT_PIXELS_PER_CHAR * (pixelRow - charRow * pixelsPerCharRowCol) / (pixelsPerCharRowCol);
-                                        }
+        /**
+         * Calculates the metrics for all chars on the passed-in texture sheet.
+         */
+        private void measurePage(int page, BufferedImage bufferedImage) {
+            //Calculate min/max.
+            //For each char, we look at the row/col bounds and check every pixel in the col
+            //starting from right to left.  If we hit a pixel in this col sub-section, we know we
+            //have found the end of the char and that's its width.
+            //Order is all chars in row 1, then row 2, etc.
+            int pixelsPerSide = bufferedImage.getHeight();
+            int pixelsPerCharRowCol = pixelsPerSide / CHARS_PER_ROWCOL;
+            for (int charRow = 0; charRow < CHARS_PER_ROWCOL; ++charRow) {
+                for (int charCol = 0; charCol < CHARS_PER_ROWCOL; ++charCol) {
+                    //Get char and set defaults.
+                    char charChecking = (char) (page * CHARS_PER_TEXTURE_SHEET + charRow * CHARS_PER_ROWCOL + charCol);
+                    if (charChecking == '0') {
+                        //We will always have 0, and it's a known-height char, so use this for our scale checks.
+                        //Look top-down for pixels to see if we have any gaps.
+                        boolean foundTopPixel = false;
+                        int topPixel = charRow * pixelsPerCharRowCol;
+                        int bottomPixel = (charRow + 1) * pixelsPerCharRowCol - 1;
+                        for (int pixelRow = charRow * pixelsPerCharRowCol; pixelRow < (charRow + 1) * pixelsPerCharRowCol; ++pixelRow) {
+                            boolean foundPixelThisRow = false;
+                            for (int pixelCol = charCol * pixelsPerCharRowCol; pixelCol < (charCol + 1) * pixelsPerCharRowCol; ++pixelCol) {
+                                //Check all pixels in this row to see if we have one.
+                                //Check for alpha and color.  Some systems write color, but no alpha to a pixel.
+                                int pixelValue = bufferedImage.getRGB(pixelCol, pixelRow);
+                                if (pixelValue != 0 && (pixelValue >> 24) != 0) {
+                                    foundPixelThisRow = true;
+                                    if (!foundTopPixel) {
+                                        //First existing pixel found, must be top.
+                                        topPixel = pixelRow;
+                                        foundTopPixel = true;
+                                        this.charTopOffset = (float) DEFAULT_PIXELS_PER_CHAR * (pixelRow - charRow * pixelsPerCharRowCol) / (pixelsPerCharRowCol);
                                     }
                                 }
-                                if (!foundPixelThisRow && foundTopPixel) {
-                                    //First blank pixel found after finding some pixels, must be bottom.
-                                    bottomPixel = pixelRow;
-                                    break;
-                                }
                             }
-
-                            //Scale should make this font render the size of 7px out of the 8px high.  This allows a 1px bottom buffer to match ASCII standards.
-                            scale = (DEFAULT_CHAR_HEIGHT_PIXELS / (float) DEFAULT_PIXELS_PER_CHAR) / ((bottomPixel - topPixel) / (float) pixelsPerCharRowCol);
+                            if (!foundPixelThisRow && foundTopPixel) {
+                                //First blank pixel found after finding some pixels, must be bottom.
+                                bottomPixel = pixelRow;
+                                break;
+                            }
                         }
-                        if (charChecking == ' ') {
-                            //Space isn't rendered, but is half-width with 1 spacing on each side.
-                            charWidths[charChecking] = DEFAULT_PIXELS_PER_CHAR / 2;
-                            charSpacings[charChecking] = 0;
-                        } else {
-                            offsetsMinU[charChecking] = charCol / (float) CHARS_PER_ROWCOL;
-                            offsetsMaxU[charChecking] = (charCol + 1) / (float) CHARS_PER_ROWCOL;
-                            //Normally we'd invert the UV-mapping here to compensate for the inverted texture center.
-                            //But in this case, we don't have to do that.  Still not 100% sure on the math, but it works?
-                            offsetsMaxV[charChecking] = (charRow) / (float) CHARS_PER_ROWCOL;
-                            offsetsMinV[charChecking] = (charRow + 1) / (float) CHARS_PER_ROWCOL;
-                            charWidths[charChecking] = DEFAULT_PIXELS_PER_CHAR;
-
-                            //Check each pixel in the pixel sub-col to get the actual width of the char.
-                            //Do this for the left and right side to get the bounds.
-                            boolean foundPixelThisCol = false;
-                            for (int pixelCol = charCol * pixelsPerCharRowCol; pixelCol < (charCol + 1) * pixelsPerCharRowCol; ++pixelCol) {
-                                //Check all rows of pixels in this column to see if we have one.
-                                for (int pixelRow = charRow * pixelsPerCharRowCol; pixelRow < (charRow + 1) * pixelsPerCharRowCol; ++pixelRow) {
-                                    //Check for alpha and color.  Some systems write color, but no alpha to a pixel.
-                                    int pixelValue = bufferedImage.getRGB(pixelCol, pixelRow);
-                                    if (pixelValue != 0 && (pixelValue >> 24) != 0) {
-                                        //Found a pixel, we must have this as our UV.
-                                        offsetsMinU[charChecking] = pixelCol / (float) pixelsPerCharRowCol / CHARS_PER_ROWCOL;
-                                        charSpacings[charChecking] = (pixelCol - charCol * pixelsPerCharRowCol) / (float) pixelsPerCharRowCol * DEFAULT_PIXELS_PER_CHAR;
-                                        foundPixelThisCol = true;
-                                        break;
-                                    }
-                                }
-                                if (foundPixelThisCol) {
+
+                        //Scale should make this font render the size of 7px out of the 8px high.  This allows a 1px bottom buffer to match ASCII standards.
+                        this.charScale = (DEFAULT_CHAR_HEIGHT_PIXELS / (float) DEFAULT_PIXELS_PER_CHAR) / ((bottomPixel - topPixel) / (float) pixelsPerCharRowCol);
+                    }
+                    if (charChecking == ' ') {
+                        //Space isn't rendered, but is half-width with 1 spacing on each side.
+                        charWidths[charChecking] = DEFAULT_PIXELS_PER_CHAR / 2;
+                        charSpacings[charChecking] = 0;
+                    } else {
+                        offsetsMinU[charChecking] = charCol / (float) CHARS_PER_ROWCOL;
+                        offsetsMaxU[charChecking] = (charCol + 1) / (float) CHARS_PER_ROWCOL;
+                        //Normally we'd invert the UV-mapping here to compensate for the inverted texture center.
+                        //But in this case, we don't have to do that.  Still not 100% sure on the math, but it works?
+                        offsetsMaxV[charChecking] = (charRow) / (float) CHARS_PER_ROWCOL;
+                        offsetsMinV[charChecking] = (charRow + 1) / (float) CHARS_PER_ROWCOL;
+                        charWidths[charChecking] = DEFAULT_PIXELS_PER_CHAR;
+
+                        //Check each pixel in the pixel sub-col to get the actual width of the char.
+                        //Do this for the left and right side to get the bounds.
+                        boolean foundPixelThisCol = false;
+                        for (int pixelCol = charCol * pixelsPerCharRowCol; pixelCol < (charCol + 1) * pixelsPerCharRowCol; ++pixelCol) {
+                            //Check all rows of pixels in this column to see if we have one.
+                            for (int pixelRow = charRow * pixelsPerCharRowCol; pixelRow < (charRow + 1) * pixelsPerCharRowCol; ++pixelRow) {
+                                //Check for alpha and color.  Some systems write color, but no alpha to a pixel.
+                                int pixelValue = bufferedImage.getRGB(pixelCol, pixelRow);
+                                if (pixelValue != 0 && (pixelValue >> 24) != 0) {
+                                    //Found a pixel, we must have this as our UV.
+                                    offsetsMinU[charChecking] = pixelCol / (float) pixelsPerCharRowCol / CHARS_PER_ROWCOL;
+                                    charSpacings[charChecking] = (pixelCol - charCol * pixelsPerCharRowCol) / (float) pixelsPerCharRowCol * DEFAULT_PIXELS_PER_CHAR;
+                                    foundPixelThisCol = true;
                                     break;
                                 }
                             }
+                            if (foundPixelThisCol) {
+                                break;
+                            }
+                        }
 
-                            foundPixelThisCol = false;
-                            for (int pixelCol = (charCol + 1) * pixelsPerCharRowCol - 1; pixelCol >= charCol * pixelsPerCharRowCol; --pixelCol) {
-                                //Check all rows of pixels in this column to see if we have one.
-                                for (int pixelRow = charRow * pixelsPerCharRowCol; pixelRow < (charRow + 1) * pixelsPerCharRowCol; ++pixelRow) {
-                                    //Check for alpha and color.  Some systems write color, but no alpha to a pixel.
-                                    int pixelValue = bufferedImage.getRGB(pixelCol, pixelRow);
-                                    if (pixelValue != 0 && (pixelValue >> 24) != 0) {
-                                        //Found a pixel, we must have this as our UV.
-                                        ++pixelCol;
-                                        offsetsMaxU[charChecking] = pixelCol / (float) pixelsPerCharRowCol / CHARS_PER_ROWCOL;
-                                        charWidths[charChecking] = (offsetsMaxU[charChecking] - offsetsMinU[charChecking]) * CHARS_PER_ROWCOL * DEFAULT_PIXELS_PER_CHAR;
-                                        foundPixelThisCol = true;
-                                        break;
-                                    }
-                                }
-                                if (foundPixelThisCol) {
+                        foundPixelThisCol = false;
+                        for (int pixelCol = (charCol + 1) * pixelsPerCharRowCol - 1; pixelCol >= charCol * pixelsPerCharRowCol; --pixelCol) {
+                            //Check all rows of pixels in this column to see if we have one.
+                            for (int pixelRow = charRow * pixelsPerCharRowCol; pixelRow < (charRow + 1) * pixelsPerCharRowCol; ++pixelRow) {
+                                //Check for alpha and color.  Some systems write color, but no alpha to a pixel.
+                                int pixelValue = bufferedImage.getRGB(pixelCol, pixelRow);
+                                if (pixelValue != 0 && (pixelValue >> 24) != 0) {
+                                    //Found a pixel, we must have this as our UV.
+                                    ++pixelCol;
+                                    offsetsMaxU[charChecking] = pixelCol / (float) pixelsPerCharRowCol / CHARS_PER_ROWCOL;
+                                    charWidths[charChecking] = (offsetsMaxU[charChecking] - offsetsMinU[charChecking]) * CHARS_PER_ROWCOL * DEFAULT_PIXELS_PER_CHAR;
+                                    foundPixelThisCol = true;
                                     break;
                                 }
                             }
+                            if (foundPixelThisCol) {
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private void loadMetricsCache() {
+            if (metricsFile.exists()) {
+                try (DataInputStream stream = new DataInputStream(new BufferedInputStream(new FileInputStream(metricsFile)))) {
+                    if (stream.readInt() == METRICS_CACHE_VERSION) {
+                        int pageCount = stream.readInt();
+                        for (int i = 0; i < pageCount; ++i) {
+                            int page = stream.readInt();
+                            cachedPageMetrics.put(page, new CachedPageMetrics(stream));
                         }
                     }
+                } catch (Exception e) {
+                    //Bad cache file, we'll just re-create it.
+                    cachedPageMetrics.clear();
+                }
+            }
+        }
+
+        private void saveMetricsCache() {
+            try {
+                METRICS_CACHE_DIRECTORY.mkdirs();
+                try (DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(metricsFile)))) {
+                    stream.writeInt(METRICS_CACHE_VERSION);
+                    stream.writeInt(cachedPageMetrics.size());
+                    for (Entry<Integer, CachedPageMetrics> pageEntry : cachedPageMetrics.entrySet()) {
+                        stream.writeInt(pageEntry.getKey());
+                        pageEntry.getValue().write(stream);
+                    }
                 }
+            } catch (Exception e) {
+                InterfaceManager.coreInterface.logError("Could not save font metrics cache to " + metricsFile.getAbsolutePath() + ", fonts will be re-measured next launch.");
             }
-            this.charScale = scale;
-            this.charTopOffset = charTopOffset;
         }
 
         private void renderText(String text, TransformationMatrix transform, RotationMatrix rotation, TextAlignment alignment, float scale, boolean autoScale, int wrapWidth, boolean pixelCoords, ColorRGB color, boolean renderLit, int worldLightValue, boolean onGUI) {
@@ -702,6 +814,7 @@ public class RenderText {
         }
 
         private float getStringWidth(String text) {
+            loadPages(text);
             float stringWidth = 0;
             boolean skipNext = false;
             boolean foundCharAlready = false;
@@ -721,6 +834,71 @@ public class RenderText {
             return stringWidth;
         }
 
+        /**
+         * Metrics for a single texture sheet, as stored in the metrics cache file.
+         * The checksum of the sheet is stored to know if the sheet has changed since it was measured.
+         */
+        private static class CachedPageMetrics {
+            private final String location;
+            private final long checksum;
+            private final float scale;
+            private final float topOffset;
+            private final float[][] metrics = new float[6][CHARS_PER_TEXTURE_SHEET];
+
+            private CachedPageMetrics(FontData font, int page, String location, long checksum) {
+                this.location = location;
+                this.checksum = checksum;
+                this.scale = font.charScale;
+                this.topOffset = font.charTopOffset;
+                int pageStart = page * CHARS_PER_TEXTURE_SHEET;
+                System.arraycopy(font.charWidths, pageStart, metrics[0], 0, CHARS_PER_TEXTURE_SHEET);
+                System.arraycopy(font.charSpacings, pageStart, metrics[1], 0, CHARS_PER_TEXTURE_SHEET);
+                System.arraycopy(font.offsetsMinU, pageStart, metrics[2], 0, CHARS_PER_TEXTURE_SHEET);
+                System.arraycopy(font.offsetsMaxU, pageStart, metrics[3], 0, CHARS_PER_TEXTURE_SHEET);
+                System.arraycopy(font.offsetsMinV, pageStart, metrics[4], 0, CHARS_PER_TEXTURE_SHEET);
+                System.arraycopy(font.offsetsMaxV, pageStart, metrics[5], 0, CHARS_PER_TEXTURE_SHEET);
+            }
+
+            private CachedPageMetrics(DataInputStream stream) throws IOException {
+                this.location = stream.readUTF();
+                this.checksum = stream.readLong();
+                this.scale = stream.readFloat();
+                this.topOffset = stream.readFloat();
+                for (float[] metric : metrics) {
+                    for (int i = 0; i < metric.length; ++i) {
+                        metric[i] = stream.readFloat();
+                    }
+                }
+            }
+
+            private void write(DataOutputStream stream) throws IOException {
+                stream.writeUTF(location);
+                stream.writeLong(checksum);
+                stream.writeFloat(scale);
+                stream.writeFloat(topOffset);
+                for (float[] metric : metrics) {
+                    for (float value : metric) {
+                        stream.writeFloat(value);
+                    }
+                }
+            }
+
+            private void apply(FontData font, int page) {
+                if (page == 0) {
+                    //Scale and offset come from the '0' char, which is on the first page.
+                    font.charScale = scale;
+                    font.charTopOffset = topOffset;
+                }
+                int pageStart = page * CHARS_PER_TEXTURE_SHEET;
+                System.arraycopy(metrics[0], 0, font.charWidths, pageStart, CHARS_PER_TEXTURE_SHEET);
+                System.arraycopy(metrics[1], 0, font.charSpacings, pageStart, CHARS_PER_TEXTURE_SHEET);
+                System.arraycopy(metrics[2], 0, font.offsetsMinU, pageStart, CHARS_PER_TEXTURE_SHEET);
+                System.arraycopy(metrics[3], 0, font.offsetsMaxU, pageStart, CHARS_PER_TEXTURE_SHEET);
+                System.arraycopy(metrics[4], 0, font.offsetsMinV, pageStart, CHARS_PER_TEXTURE_SHEET);
+                System.arraycopy(metrics[5], 0, font.offsetsMaxV, pageStart, CHARS_PER_TEXTURE_SHEET);
+            }
+        }
+
         private static class FontRenderState {
             private static final int BOLD_BIT_INDEX = 1;
             private static final int ITALIC_BIT_INDEX = 2;
@@ -44,6 +44,7 @@ import minecrafttransportsimulator.systems.ConfigSystem;
  */
 public class RenderableModelObject {
     public final RenderableData renderable;
+    private final String modelLocation;
     private final boolean isWindow;
     private final boolean isOnlineTexture;
     private final JSONAnimatedObject objectDef;
@@ -68,8 +69,10 @@ public class RenderableModelObject {
     private static final Map<String, String> erroredTextures = new HashMap<>();
     private static boolean errorTextureBound;
 
-    public RenderableModelObject(AEntityD_Definable<?> entity, RenderableVertices vertexObject) {
+    public RenderableModelObject(AEntityD_Definable<?> entity, String modelLocation, RenderableVertices vertexObject) {
         super();
+        this.modelLocation = modelLocation;
+        AModelParser.addModelReference(modelLocation);
         this.isWindow = vertexObject.name.toLowerCase(Locale.ROOT).contains(AModelParser.WINDOW_OBJECT_NAME);
         this.isOnlineTexture = vertexObject.name.toLowerCase(Locale.ROOT).startsWith(AModelParser.ONLINE_TEXTURE_OBJECT_NAME) || vertexObject.name.toLowerCase(Locale.ROOT).endsWith(AModelParser.ONLINE_TEXTURE_OBJECT_NAME);
         this.objectDef = entity.animatedObjectDefinitions.get(vertexObject.name);
@@ -80,8 +83,7 @@ public class RenderableModelObject {
         //be our normal model, the second will be a new, inverted, interior model.
         if (isWindow) {
             this.renderable = new RenderableData(vertexObject, "mts:textures/rendering/glass.png");
-            renderable.vertexObject.setTextureBounds(0, 1, 0, 1);
-            this.interiorWindowRenderable = new RenderableData(vertexObject.createBackface(), "mts:textures/rendering/glass.png");
+            this.interiorWindowRenderable = new RenderableData(AModelParser.getWindowBackface(vertexObject), "mts:textures/rendering/glass.png");
         } else {
             this.renderable = new RenderableData(vertexObject);
             this.interiorWindowRenderable = null;
@@ -356,6 +358,10 @@ public class RenderableModelObject {
      */
     public void destroy() {
         renderable.destroy();
+        if (interiorWindowRenderable != null) {
+            interiorWindowRenderable.destroy();
+        }
+        AModelParser.removeModelReference(modelLocation);
     }
 
     private boolean shouldRender(AEntityD_Definable<?> entity, boolean blendingEnabled, float partialTicks) {
@@ -366,9 +372,9 @@ public class RenderableModelObject {
         //If we have a switchbox, run it once, and if it returns false for a non-blended object, don't render.
         if (switchbox != null) {
             if (objectDef.blendedAnimations) {
-                switchbox.runSwitchbox(partialTicks, false);
+                switchbox.runSwitchboxLOD(partialTicks, false);
             } else {
-                return switchbox.runSwitchbox(partialTicks, false);
+                return switchbox.runSwitchboxLOD(partialTicks, false);
             }
         }
         //No false conditions, return true.
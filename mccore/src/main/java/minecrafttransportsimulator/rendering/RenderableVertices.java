@@ -395,6 +395,52 @@ public class RenderableVertices {
         setSpritePropertiesAdvancedTexture(spriteIndex, offsetX, offsetY, width, height, u, v, u, V, U, V, U, v);
     }
 
+    /**
+     * Transforms the positions and normals of the passed-in sprite by the passed-in matrix.  This must be called after setting the
+     * sprite properties, as it takes the sprite as being on the z=0 plane where they put it.  This allows multiple sprites
+     * with different transforms to be in the same object and be rendered together.
+     */
+    public void transformSprite(int spriteIndex, TransformationMatrix transform) {
+        double normalLength = Math.sqrt(transform.m02 * transform.m02 + transform.m12 * transform.m12 + transform.m22 * transform.m22);
+        for (int vertexIndex = spriteIndex * VERTEXES_PER_QUAD; vertexIndex < (spriteIndex + 1) * VERTEXES_PER_QUAD; ++vertexIndex) {
+            int xOffset = vertexIndex * FLOATS_PER_VERTEX + VERTEX_BUFFER_X_OFFSET;
+            int yOffset = vertexIndex * FLOATS_PER_VERTEX + VERTEX_BUFFER_Y_OFFSET;
+            int zOffset = vertexIndex * FLOATS_PER_VERTEX + VERTEX_BUFFER_Z_OFFSET;
+            double x = vertices.get(xOffset);
+            double y = vertices.get(yOffset);
+            vertices.put(xOffset, (float) (transform.m00 * x + transform.m01 * y + transform.m03));
+            vertices.put(yOffset, (float) (transform.m10 * x + transform.m11 * y + transform.m13));
+            vertices.put(zOffset, (float) (transform.m20 * x + transform.m21 * y + transform.m23));
+
+            //Rotate normals too, or lighting won't match the rotated sprite.  Like the positions, this works from the
+            //sprite facing +Z, so the normal is the transformed Z-axis, re-normalized in case the transform is scaled.
+            if (normalLength > 0) {
+                vertices.put(vertexIndex * FLOATS_PER_VERTEX + VERTEX_BUFFER_NX_OFFSET, (float) (transform.m02 / normalLength));
+                vertices.put(vertexIndex * FLOATS_PER_VERTEX + VERTEX_BUFFER_NY_OFFSET, (float) (transform.m12 / normalLength));
+                vertices.put(vertexIndex * FLOATS_PER_VERTEX + VERTEX_BUFFER_NZ_OFFSET, (float) (transform.m22 / normalLength));
+            }
+        }
+    }
+
+    /**
+     * Creates a new sprite object that shares the vertices of this sprite object, starting at the passed-in sprite.
+     * This allows for rendering a sub-set of the sprites in this object.  The number of sprites to render
+     * from the start is set via {@link #setSpriteCount(int)}.
+     */
+    public RenderableVertices createSpriteView(int startSpriteIndex) {
+        vertices.position(startSpriteIndex * VERTEXES_PER_QUAD * FLOATS_PER_VERTEX);
+        FloatBuffer viewVertices = vertices.slice();
+        vertices.rewind();
+        return new RenderableVertices(name, viewVertices, false);
+    }
+
+    /**
+     * Sets the number of sprites in this object to render.
+     */
+    public void setSpriteCount(int spriteCount) {
+        vertices.limit(spriteCount * VERTEXES_PER_QUAD * FLOATS_PER_VERTEX);
+    }
+
     /**
      * Like {@link #setSpriteProperties(int, int, int, int, int, float, float, float, float)}, but with each texture coordinate specified.
      */
@@ -1,6 +1,7 @@
 package minecrafttransportsimulator.sound;
 
 import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
 
 import minecrafttransportsimulator.entities.instances.EntityRadio;
 
@@ -44,21 +45,20 @@ public interface IStreamDecoder {
      * This should be done prior to sending the finalized buffer returned in
      * {@link #readBlock()}, if the source sound file is non-mono as all systems
      * expect a mono sound stream.
+     * <p>
+     * The conversion is done in-place, as each mono sample is written at or before the
+     * stereo samples it was made from.  The passed-in sampleView must be a ShortBuffer view of
+     * the whole stereoBuffer, so decoders should create it once and re-use it.  The stereoBuffer
+     * is returned with its limit set to the end of the mono data.
      */
-    static ByteBuffer stereoToMono(ByteBuffer stereoBuffer) {
-        ByteBuffer monoBuffer = ByteBuffer.allocateDirect(stereoBuffer.limit() / 2);
-        while (stereoBuffer.hasRemaining()) {
-            //Combine samples using little-endian ordering.
-            byte[] sampleSet = new byte[4];
-            stereoBuffer.get(sampleSet);
-            int leftSample = (sampleSet[1] << 8) | (sampleSet[0] & 0xFF);
-            int rightSample = (sampleSet[3] << 8) | (sampleSet[2] & 0xFF);
-            int combinedSample = (leftSample + rightSample) / 2;
-            monoBuffer.put((byte) (combinedSample & 0xFF));
-            monoBuffer.put((byte) (combinedSample >> 8));
+    static ByteBuffer stereoToMono(ByteBuffer stereoBuffer, ShortBuffer sampleView) {
+        int monoSamples = stereoBuffer.limit() / 4;
+        for (int i = 0; i < monoSamples; ++i) {
+            sampleView.put(i, (short) ((sampleView.get(2 * i) + sampleView.get(2 * i + 1)) / 2));
         }
-        monoBuffer.flip();
-        return monoBuffer;
+        stereoBuffer.position(0);
+        stereoBuffer.limit(monoSamples * 2);
+        return stereoBuffer;
     }
 
     int getSampleRate();
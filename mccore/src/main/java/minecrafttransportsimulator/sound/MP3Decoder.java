@@ -42,6 +42,10 @@ public class MP3Decoder implements IStreamDecoder {
      * Buffer used to store decoded data that can be sent to OpenAL.
      **/
     private final ByteBuffer decodedDataBuffer;
+    /**
+     * ShortBuffer view of the decodedDataBuffer, used for putting decoded samples into it and combining stereo samples.
+     **/
+    private final ShortBuffer decodedSamples;
     /**
      * Stereo or not.  Needed to tell OpenAL how to parse the bytes.
      **/
@@ -72,6 +76,7 @@ public class MP3Decoder implements IStreamDecoder {
         this.sampleRate = currentFrameHeader.frequency();
         this.decoderOutputBuffer = new SampleBuffer(sampleRate, isStereo ? 2 : 1);
         this.decodedDataBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.nativeOrder());
+        this.decodedSamples = decodedDataBuffer.asShortBuffer();
         this.decoder.setOutputBuffer(decoderOutputBuffer);
     }
 
@@ -90,8 +95,8 @@ public class MP3Decoder implements IStreamDecoder {
         decoder.setEqualizer(equalizer);
         decodedDataBuffer.clear();
 
-        //Create a ShortBuffer view to put short arrays into.
-        ShortBuffer sampleBuffer = decodedDataBuffer.asShortBuffer();
+        //Reset the ShortBuffer view to put short arrays into.
+        decodedSamples.clear();
         while (totalSamplesRead < MAX_READ_SIZE) {
             try {
                 //We will already have a header at this point, so start parsing.
@@ -104,7 +109,7 @@ public class MP3Decoder implements IStreamDecoder {
                 //decodedDataBuffer to the ByteBuffer.  Note that the length
                 //of the outputBuffer is in shorts, so need to multiply that by 2 for bytes.
                 int samplesRead = decoderOutputBuffer.getBufferLength();
-                sampleBuffer.put(decoderOutputBuffer.getBuffer(), 0, samplesRead);
+                decodedSamples.put(decoderOutputBuffer.getBuffer(), 0, samplesRead);
                 totalSamplesRead += samplesRead;
 
                 //Read the next frame header.
@@ -122,7 +127,7 @@ public class MP3Decoder implements IStreamDecoder {
         //Rewind the decoded data buffer, set the limit based on the samples read, and return.
         decodedDataBuffer.rewind();
         decodedDataBuffer.limit(totalSamplesRead * 2);
-        return isStereo ? IStreamDecoder.stereoToMono(decodedDataBuffer) : decodedDataBuffer;
+        return isStereo ? IStreamDecoder.stereoToMono(decodedDataBuffer, decodedSamples) : decodedDataBuffer;
     }
 
     @Override
@@ -25,6 +25,10 @@ public class OGGDecoder implements IStreamDecoder {
      * Buffer used to store decoded data that can be sent to OpenAL.
      **/
     private final ByteBuffer decodedDataBuffer;
+    /**
+     * ShortBuffer view of the decodedDataBuffer, used for putting decoded samples into it and combining stereo samples.
+     **/
+    private final ShortBuffer decodedSamples;
     /**
      * Internal flag set to true when we are done processing data.  Some data may still be left in buffers for return at this point.
      **/
@@ -134,6 +138,7 @@ public class OGGDecoder implements IStreamDecoder {
         pcmInfo = new float[1][][];
         pcmIndex = new int[info.channels];
         this.decodedDataBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.nativeOrder());
+        this.decodedSamples = decodedDataBuffer.asShortBuffer();
     }
 
     @Override
@@ -190,12 +195,13 @@ public class OGGDecoder implements IStreamDecoder {
         //Rewind the decoded data buffer, set the limit based on the samples read, and return.
         decodedDataBuffer.rewind();
         decodedDataBuffer.limit(totalSamplesProcessed * 2 * info.channels);
-        return info.channels == 2 ? IStreamDecoder.stereoToMono(decodedDataBuffer) : decodedDataBuffer;
+        return info.channels == 2 ? IStreamDecoder.stereoToMono(decodedDataBuffer, decodedSamples) : decodedDataBuffer;
     }
 
     private void decodeSamples() {
-        //Create an ShortBuffer view to put short arrays into, and get the number of samples we can fit into it.
-        ShortBuffer sampleBuffer = decodedDataBuffer.asShortBuffer();
+        //Move the ShortBuffer view to where we are in the buffer, and get the number of samples we can fit into it.
+        decodedSamples.clear();
+        decodedSamples.position(decodedDataBuffer.position() / 2);
         int samplesLeftInBuffer = BUFFER_SIZE / (2 * info.channels) - totalSamplesProcessed;
         int samplesAbleToProcess = dspState.synthesis_pcmout(pcmInfo, pcmIndex);
         if (samplesAbleToProcess > samplesLeftInBuffer) {
@@ -218,14 +224,14 @@ public class OGGDecoder implements IStreamDecoder {
                     value = Short.MAX_VALUE;
                 if (value < Short.MIN_VALUE)
                     value = Short.MIN_VALUE;
-                sampleBuffer.put((short) value);
+                decodedSamples.put((short) value);
             }
         }
 
         //Notify DSP that we processed these samples, increment process count, and exit.
         dspState.synthesis_read(samplesAbleToProcess);
         totalSamplesProcessed += samplesAbleToProcess;
-        decodedDataBuffer.position(decodedDataBuffer.position() + sampleBuffer.position() * 2);
+        decodedDataBuffer.position(decodedSamples.position() * 2);
     }
 
     @Override
@@ -10,6 +10,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javazoom.jl.decoder.Equalizer;
 import minecrafttransportsimulator.entities.instances.EntityRadio;
@@ -20,6 +23,12 @@ import minecrafttransportsimulator.sound.RadioManager.RadioSources;
  * Radio stations are sources that radios can hook into to provide sound.  All radios share the
  * same common set of stations, which means that should two radios start playing the same station, they
  * will both play in-sync with one another.
+ * <p>
+ * Stations don't have their own threads.  Instead, decoding is done as tasks on a small pool of threads
+ * shared by all local stations.  Decoding tasks only run when the station needs more buffers, and each
+ * decoded buffer is bound to every radio playing the station.  Internet stations link and decode on a
+ * separate pool that grows as needed, as their reads block on the network and arrive in real-time.
+ * This keeps slow or stalled streams from holding up decoding for other stations.
  *
  * @author don_bruce
  */
@@ -39,9 +48,23 @@ public class RadioStation {
     private final ConcurrentLinkedQueue<EntityRadio> queuedRadios = new ConcurrentLinkedQueue<>();
     private final ConcurrentLinkedQueue<EntityRadio> playingRadios = new ConcurrentLinkedQueue<>();
     private final ConcurrentLinkedQueue<Integer> activeBuffers = new ConcurrentLinkedQueue<>();
-    private volatile LinkingThread linkingThread;
-    private volatile DecoderThread decoderThread;
+    private volatile boolean linking;
+    private volatile DecoderTask decoderTask;
     private volatile int faultedDecodes;
+    private static final int MAX_ACTIVE_BUFFERS = 5;
+    private static final int DECODER_THREADS = 4;
+    private static final ExecutorService decoderExecutor = Executors.newFixedThreadPool(DECODER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "MTS-RadioDecoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final ExecutorService streamExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "MTS-RadioStream");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final int CONNECT_TIMEOUT = 10000;
+    private static final int READ_TIMEOUT = 15000;
 
     public RadioStation(int index, boolean randomOrder) {
         this.source = RadioSources.LOCAL;
@@ -87,9 +110,9 @@ public class RadioStation {
         queuedRadios.remove(radio);
         //If we are an internet stream, and we killed the last radio, abort us.
         //This is because internet streams are constant feeds and can't be cached.
-        if (playingRadios.isEmpty() && queuedRadios.isEmpty() && source != RadioSources.LOCAL && decoderThread != null) {
-            decoderThread.kill();
-            decoderThread = null;
+        if (playingRadios.isEmpty() && queuedRadios.isEmpty() && source != RadioSources.LOCAL && decoderTask != null) {
+            decoderTask.kill();
+            decoderTask = null;
         }
     }
 
@@ -100,12 +123,12 @@ public class RadioStation {
      */
     public void update() {
         if (!playingRadios.isEmpty() || !queuedRadios.isEmpty()) {
-            if (linkingThread == null && decoderThread == null) {
-                //Need to start trying to do playback since we don't have any threads.
+            if (!linking && decoderTask == null) {
+                //Need to start trying to do playback since we don't have a decoder.
                 if (faultedDecodes < 5) {
                     startPlayback();
                 }
-            } else if (decoderThread != null && decoderThread.initDone) {
+            } else if (decoderTask != null && decoderTask.initDone) {
                 //Have an active and ready decoder, start decoding.
                 int freeBufferIndex = 0;
 
@@ -116,6 +139,8 @@ public class RadioStation {
                     if (freeBufferIndex != 0) {
                         activeBuffers.remove(freeBufferIndex);
                         InterfaceManager.soundInterface.deleteBuffer(freeBufferIndex);
+                        //Have room for another buffer, so decode one.
+                        decoderTask.schedule();
                     }
                 }
 
@@ -151,8 +176,8 @@ public class RadioStation {
                 //If we have 0 buffers, clear out the decoder and start the station again.
                 //This happens if we reach an EOF, or the stream cuts out.
                 if (activeBuffers.isEmpty()) {
-                    if (decoderThread != null) {
-                        decoderThread.kill();
+                    if (decoderTask != null) {
+                        decoderTask.kill();
                     }
                     startPlayback();
                 }
@@ -163,7 +188,7 @@ public class RadioStation {
     /**
      * Starts playback of this station.  This is called when we first add a radio,
      * or when the radio stops playing and we auto-restart.  This creates a new decoder for 
-     * parsing data and populates the buffers via a thread.  Radios will be started in the update
+     * parsing data and populates the buffers via a decoder task.  Radios will be started in the update
      * method when the buffer is full.
      */
     private void startPlayback() {
@@ -206,8 +231,8 @@ public class RadioStation {
                 } else {
                     infoText = "Station: " + musicFiles.get(0).getParentFile().getName() + "\nNow Playing: " + musicFiles.get(0).getName();
                     infoText += "\nBuffers:";
-                    decoderThread = new DecoderThread(this, musicFiles.get(0));
-                    decoderThread.start();
+                    decoderTask = new DecoderTask(this, musicFiles.get(0));
+                    decoderTask.schedule();
                     iterator.remove();
                     return;
                 }
@@ -223,34 +248,35 @@ public class RadioStation {
      */
     private void playFromInternet() {
         displayText = "CONNECTING";
-        decoderThread = null;
-        linkingThread = new LinkingThread(this);
-        linkingThread.start();
+        decoderTask = null;
+        linking = true;
+        streamExecutor.execute(new LinkingTask(this));
     }
     
     /**
-     * Custom thread class to prevent blocking of the main thread when querying radio stations for audio.
-     * This thread finds the audio source and kills itself when it does, or when the source can't be found.
+     * Task to prevent blocking of the main thread when querying radio stations for audio.
+     * This task finds the audio source and creates the decoder task when it does, or ends when
+     * the source can't be found.
      *
      * @author don_bruce
      */
-    private static class LinkingThread extends Thread {
+    private static class LinkingTask implements Runnable {
         private final RadioStation station;
 
-        private LinkingThread(RadioStation station) {
+        private LinkingTask(RadioStation station) {
             this.station = station;
         }
 
         @Override
         public void run() {
-            if (!initDecoderThread()) {
+            if (!initDecoderTask()) {
                 //Something is wrong with the radio station, abort all radio playback.
                 station.queuedRadios.clear();
             }
-            station.linkingThread = null;
+            station.linking = false;
         }
 
-        private boolean initDecoderThread() {
+        private boolean initDecoderTask() {
             //Try to open the radio URL.
             int tryCount = 0;
             String errorString = null;
@@ -260,6 +286,8 @@ public class RadioStation {
                     URL urlObj = new URL(station.url);
                     URLConnection connection = urlObj.openConnection();
                     connection.setRequestProperty("User-Agent", "Mozilla/5.0");
+                    connection.setConnectTimeout(CONNECT_TIMEOUT);
+                    connection.setReadTimeout(READ_TIMEOUT);
 
                     //Verify stream is actually an HTTP stream.
                     connection.connect();
@@ -298,10 +326,10 @@ public class RadioStation {
                         station.infoText += "\nGenre: " + (connection.getHeaderField("icy-genre") != null ? connection.getHeaderField("icy-genre") : "");
                         station.infoText += "\nBuffers:";
 
-                        //Create a thread to start up the sound once the parsing is done.
+                        //Create a decoder task to start up the sound once the parsing is done.
                         //This keeps us from blocking the main thread.
-                        station.decoderThread = new DecoderThread(station, contentType, connection);
-                        station.decoderThread.start();
+                        station.decoderTask = new DecoderTask(station, contentType, connection);
+                        station.decoderTask.schedule();
                         return true;
                     }
                 } catch (Exception e) {
@@ -318,36 +346,75 @@ public class RadioStation {
     }
 
     /**
-     * Custom thread class to prevent blocking of the main thread when playing audio.
-     * This thread parses out the audio from the source, and keeps the decoder inside of it.
+     * Task to prevent blocking of the main thread when playing audio.  This task parses out the audio
+     * from the source, and keeps the decoder inside of it.  The first run creates the decoder and primes the
+     * buffers.  Later runs decode buffers until the station has enough, and then end.  The task is
+     * scheduled again whenever the station frees a buffer, so it only holds a thread while decoding.
      *
      * @author don_bruce
      */
-    private static class DecoderThread extends Thread {
+    private static class DecoderTask implements Runnable {
         private final RadioStation station;
         private final String contentType;
         private final URLConnection contentConnection;
         private final File contentFile;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
         private IStreamDecoder decoder;
-        private boolean stopDecoding;
-        public boolean initDone;
+        private volatile boolean stopDecoding;
+        private volatile boolean endOfStream;
+        public volatile boolean initDone;
 
-        public DecoderThread(RadioStation station, String contentType, URLConnection contentConnection) {
+        public DecoderTask(RadioStation station, String contentType, URLConnection contentConnection) {
             this.station = station;
             this.contentType = contentType;
             this.contentConnection = contentConnection;
             this.contentFile = null;
         }
 
-        public DecoderThread(RadioStation station, File contentFile) {
+        public DecoderTask(RadioStation station, File contentFile) {
             this.station = station;
             this.contentType = null;
             this.contentConnection = null;
             this.contentFile = contentFile;
         }
 
+        /**
+         * Schedules this task to run on the decoder threads, if it isn't already scheduled.
+         * Internet streams run on the stream threads, as their reads block on the network.
+         */
+        public void schedule() {
+            if (!stopDecoding && !endOfStream && scheduled.compareAndSet(false, true)) {
+                (contentConnection != null ? streamExecutor : decoderExecutor).execute(this);
+            }
+        }
+
         @Override
         public void run() {
+            if (!initDone) {
+                if (!initDecoder()) {
+                    return;
+                }
+            } else {
+                while (!stopDecoding && !endOfStream && station.activeBuffers.size() < MAX_ACTIVE_BUFFERS) {
+                    int newIndex = generateBufferIndex(true);
+                    if (newIndex != 0) {
+                        station.playingRadios.forEach(radio -> InterfaceManager.soundInterface.bindBuffer(radio.getPlayingSound(), newIndex));
+                    }
+                }
+            }
+            scheduled.set(false);
+
+            //Check if a buffer was freed after our last check, as we wouldn't have been re-scheduled for it.
+            if (station.activeBuffers.size() < MAX_ACTIVE_BUFFERS) {
+                schedule();
+            }
+        }
+
+        /**
+         * Creates the decoder and primes the buffers.  Returns true if this was successful,
+         * false if the stream couldn't be opened and playback was aborted.
+         */
+        private boolean initDecoder() {
             //Act based on our stream type.
             int tryCount = 0;
             do {
@@ -365,25 +432,16 @@ public class RadioStation {
                     } else {
                         decoder = new MP3Decoder(Files.newInputStream(contentFile.toPath()), station.equalizer);
                     }
-                    //Prime the buffers before setting the thread to null.
+                    //Prime the buffers before setting the init flag.
                     //This prevents the buffers from running out from starting too quickly.
-                    //Because this is in a thread, it also saves on processing power.
-                    for (byte i = 0; i < 5; ++i) {
+                    for (byte i = 0; i < MAX_ACTIVE_BUFFERS; ++i) {
                         generateBufferIndex(false);
                     }
                     initDone = true;
 
-                    //Done starting decoding, update text and go into main parsing loop.
+                    //Done starting decoding, update text.
                     station.displayText = station.infoText;
-                    while (!stopDecoding) {
-                        if (station.activeBuffers.size() < 5) {
-                            int newIndex = generateBufferIndex(true);
-                            if (newIndex != 0) {
-                                station.playingRadios.forEach(radio -> InterfaceManager.soundInterface.bindBuffer(radio.getPlayingSound(), newIndex));
-                            }
-                        }
-                    }
-                    return;
+                    return true;
                 } catch (Exception e) {
                     //e.printStackTrace();
                 }
@@ -391,6 +449,7 @@ public class RadioStation {
             station.displayText = "ERROR: Was able to connect to URL but not open stream.  Try again later?";
             //Something is wrong with the radio station, abort all radio playback.
             station.queuedRadios.clear();
+            return false;
         }
 
         public void kill() {
@@ -408,7 +467,10 @@ public class RadioStation {
          */
         private int generateBufferIndex(boolean updateDisplay) {
             ByteBuffer buffer = decoder.readBlock();
-            if (buffer != null) {
+            if (buffer == null) {
+                //No more data, so don't decode any more.  The station will restart once the buffers run out.
+                endOfStream = true;
+            } else {
                 //Get new buffer index from the audio system and add it to our radios.
                 int bufferIndex = InterfaceManager.soundInterface.createBuffer(buffer, decoder);
                 station.activeBuffers.add(bufferIndex);
@@ -33,7 +33,31 @@ public class SoundInstance {
     public float pitch = 1.0F;
     public boolean stopSound = false;
 
+    //Values last sent to the audio system, so only changed values are sent.
+    private final Point3D sentPosition = new Point3D();
+    private boolean sentPositionValid;
+    private float sentGain = -1;
+    private float sentPitch = -1;
+
     public static final int DEFAULT_MAX_DISTANCE = 32;
+    /**
+     * Gain at or below which sounds can't be heard, and can be made virtual.
+     **/
+    public static final float INAUDIBLE_GAIN = 0.001F;
+    /**
+     * Gain above which virtual sounds can be heard again, and should get a source.  This is higher than
+     * {@link #INAUDIBLE_GAIN} so sounds right at the edge don't keep swapping sources and restarting.
+     **/
+    public static final float AUDIBLE_GAIN = 0.002F;
+    /**
+     * If there are no free sources, a virtual sound that can be heard takes the source of the quietest playing
+     * looping sound, if that sound is quieter than this factor times its gain.  The gap stops two sounds
+     * of about the same gain from taking the source from each other every frame.
+     **/
+    public static final float SOURCE_TAKE_GAIN_FACTOR = 0.75F;
+    private static final double POSITION_UPDATE_THRESHOLD = 0.01;
+    private static final float GAIN_UPDATE_THRESHOLD = 0.002F;
+    private static final float PITCH_UPDATE_THRESHOLD = 0.001F;
 
     public SoundInstance(AEntityB_Existing entity, String soundName) {
         this(entity, soundName, null, null);
@@ -60,4 +84,64 @@ public class SoundInstance {
             position.set(entity.position);
         }
     }
+
+    /**
+     * Returns true if the position has moved enough since it was last sent to the audio system
+     * that it needs to be sent again.  If so, the position is recorded as sent.
+     */
+    public boolean updateSentPosition() {
+        if (!sentPositionValid || !position.isDistanceToCloserThan(sentPosition, POSITION_UPDATE_THRESHOLD)) {
+            sentPosition.set(position);
+            sentPositionValid = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Like {@link #updateSentPosition()}, but for the passed-in gain.
+     */
+    public boolean updateSentGain(float gain) {
+        if (Math.abs(gain - sentGain) > GAIN_UPDATE_THRESHOLD) {
+            sentGain = gain;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Like {@link #updateSentPosition()}, but for the passed-in pitch.
+     */
+    public boolean updateSentPitch(float pitch) {
+        if (Math.abs(pitch - sentPitch) > PITCH_UPDATE_THRESHOLD) {
+            sentPitch = pitch;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Clears the values sent to the audio system, so they are all sent on the next update.
+     * Call this when this sound gets a new source.
+     */
+    public void resetSentValues() {
+        sentPositionValid = false;
+        sentGain = -1;
+        sentPitch = -1;
+    }
+
+    /**
+     * Returns the doppler factor to multiply this sound's pitch by for a listener at the passed-in position
+     * moving at the passed-in velocity.  Only horizontal motion is used.
+     */
+    public float getDopplerFactor(Point3D listenerPosition, Point3D listenerVelocity) {
+        double deltaX = listenerPosition.x - entity.position.x;
+        double deltaY = listenerPosition.y - entity.position.y;
+        double deltaZ = listenerPosition.z - entity.position.z;
+        double initalDelta = Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+        deltaX += listenerVelocity.x - entity.motion.x;
+        deltaZ += listenerVelocity.z - entity.motion.z;
+        double finalDelta = Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+        return (float) (initalDelta > finalDelta ? 1 + 0.25 * (initalDelta - finalDelta) / initalDelta : 1 - 0.25 * (finalDelta - initalDelta) / finalDelta);
+    }
 }
@@ -19,6 +19,7 @@ import minecrafttransportsimulator.jsondefs.JSONConfigSettings;
 import minecrafttransportsimulator.jsondefs.JSONSubDefinition;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packloading.JSONParser;
+import minecrafttransportsimulator.packloading.PackMaterialComponent;
 import minecrafttransportsimulator.packloading.PackParser;
 
 /**
@@ -99,6 +100,8 @@ public final class ConfigSystem {
      * Called to do overrides.  Must be called after all packs are loaded.
      */
     public static void initOverrides() {
+        //Overrides may change materials, so make sure we don't use any recipes parsed prior to them.
+        PackMaterialComponent.clearRecipeCache();
         if (settings.general.generateOverrideConfigs.value) {
             //Make the default override file and save it.
             try {
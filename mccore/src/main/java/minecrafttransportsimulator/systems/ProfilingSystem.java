@@ -0,0 +1,225 @@
+package minecrafttransportsimulator.systems;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import minecrafttransportsimulator.entities.components.AEntityA_Base;
+import minecrafttransportsimulator.entities.components.AEntityD_Definable;
+import minecrafttransportsimulator.mcinterface.InterfaceManager;
+import minecrafttransportsimulator.rendering.AModelParser;
+
+/**
+ * System for profiling how long entities take to do things.  Unlike the normal profiler, this
+ * tracks time per entity and per definition, so it's possible to see which pack item is taking
+ * the most time.  Profiling is off by default, and only costs a boolean check per section when off.
+ * It is controlled with the profiling command, which calls {@link #handleCommand(String)}.
+ * The command can also show the model cache report from {@link AModelParser#getCacheReport()}.
+ * <p>
+ * Times for an entity include the times of any entities it updates, so a vehicle's tick time
+ * will include the tick time of its parts.  The parts will also have their own times.
+ */
+public class ProfilingSystem {
+    public static final String COMMAND_NAME = "mtsprofile";
+    public static final String COMMAND_USAGE = "/" + COMMAND_NAME + " <start|stop|reset|report|csv|models>";
+    private static final int TOP_ENTITY_COUNT = 25;
+    private static final Section[] SECTIONS = Section.values();
+    private static volatile boolean enabled;
+    private static volatile int generation;
+    private static long profilingStartTime;
+    private static final Map<String, Profile> definitionProfiles = new ConcurrentHashMap<>();
+    private static final Map<String, Profile> entityProfiles = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the start time for a section, for passing to {@link #endSection(AEntityA_Base, Section, long)}.
+     * If profiling is off, this returns 0 without getting the time.
+     */
+    public static long startSection() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Ends the section for the entity, adding the time since the start time to it.
+     */
+    public static void endSection(AEntityA_Base entity, Section section, long startTime) {
+        if (enabled && startTime != 0) {
+            long sectionTime = System.nanoTime() - startTime;
+            Profile profile = entity.profile;
+            if (profile == null || profile.generation != generation) {
+                profile = createProfile(entity);
+                entity.profile = profile;
+            }
+            profile.add(section, sectionTime);
+            profile.definitionProfile.add(section, sectionTime);
+        }
+    }
+
+    private static Profile createProfile(AEntityA_Base entity) {
+        String side = entity.world.isClient() ? "Client" : "Server";
+        String definitionName;
+        if (entity instanceof AEntityD_Definable) {
+            AEntityD_Definable<?> definable = (AEntityD_Definable<?>) entity;
+            definitionName = definable.definition.packID + ":" + definable.definition.systemName;
+        } else {
+            definitionName = entity.getClass().getSimpleName();
+        }
+        Profile definitionProfile = definitionProfiles.computeIfAbsent(side + "," + definitionName, k -> new Profile(side, definitionName, null));
+        ++definitionProfile.entityCount;
+        Profile profile = new Profile(side, definitionName + " " + entity.uniqueUUID, definitionProfile);
+        //Key by side and UUID rather than the entity, so we don't keep removed entities around.
+        entityProfiles.put(side + "," + entity.uniqueUUID, profile);
+        return profile;
+    }
+
+    /**
+     * Handles the profiling command with the passed-in argument, and returns the message to show to the command sender.
+     */
+    public static String handleCommand(String argument) {
+        switch (argument) {
+            case "start": {
+                reset();
+                enabled = true;
+                return "Started MTS profiling.";
+            }
+            case "stop": {
+                enabled = false;
+                return "Stopped MTS profiling.  Data is kept until the next start or reset.";
+            }
+            case "reset": {
+                reset();
+                return "Reset MTS profiling data.";
+            }
+            case "report":
+            case "csv": {
+                try {
+                    return "Saved MTS profiling data to " + dumpToFile(argument.equals("csv")).getAbsolutePath();
+                } catch (IOException e) {
+                    InterfaceManager.coreInterface.logError("Could not save profiling data!");
+                    e.printStackTrace();
+                    return "Could not save MTS profiling data: " + e.getMessage();
+                }
+            }
+            case "models": {
+                //Models are only cached on clients, so we can't report them on dedicated servers.
+                if (ConfigSystem.client == null) {
+                    return "Models are only cached on clients.";
+                }
+                return String.join("\n", AModelParser.getCacheReport());
+            }
+            default:
+                return "Usage: " + COMMAND_USAGE;
+        }
+    }
+
+    private static void reset() {
+        ++generation;
+        definitionProfiles.clear();
+        entityProfiles.clear();
+        profilingStartTime = System.nanoTime();
+    }
+
+    private static File dumpToFile(boolean asCSV) throws IOException {
+        List<Profile> sortedDefinitions = new ArrayList<>(definitionProfiles.values());
+        sortedDefinitions.sort((profile1, profile2) -> Long.compare(profile2.times[Section.TICK.ordinal()], profile1.times[Section.TICK.ordinal()]));
+        List<Profile> sortedEntities = new ArrayList<>(entityProfiles.values());
+        sortedEntities.sort((profile1, profile2) -> Long.compare(profile2.times[Section.TICK.ordinal()], profile1.times[Section.TICK.ordinal()]));
+
+        File file = new File(InterfaceManager.gameDirectory, "mtsprofile_" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + (asCSV ? ".csv" : ".txt"));
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            if (asCSV) {
+                writer.print("Type,Side,Name,Entities");
+                for (Section section : SECTIONS) {
+                    writer.print("," + section.title + "Calls," + section.title + "TotalMs");
+                }
+                writer.println();
+                for (Profile profile : sortedDefinitions) {
+                    profile.writeCSV(writer, "Definition");
+                }
+                for (Profile profile : sortedEntities) {
+                    profile.writeCSV(writer, "Entity");
+                }
+            } else {
+                writer.printf(Locale.ROOT, "MTS profile over %.1f seconds.  Times are total milliseconds, with average microseconds per call in brackets.%n", (System.nanoTime() - profilingStartTime) / 1.0E9D);
+                writer.println();
+                writer.println("Definitions, sorted by tick time:");
+                for (Profile profile : sortedDefinitions) {
+                    profile.writeReport(writer);
+                }
+                writer.println();
+                writer.println("Top " + TOP_ENTITY_COUNT + " entities, sorted by tick time:");
+                for (int i = 0; i < sortedEntities.size() && i < TOP_ENTITY_COUNT; ++i) {
+                    sortedEntities.get(i).writeReport(writer);
+                }
+            }
+        }
+        return file;
+    }
+
+    public static enum Section {
+        TICK("Tick"),
+        PHYSICS("Physics"),
+        COLLISION("Collision"),
+        ANIMATION("Animation"),
+        PACKETS("Packets"),
+        RECIPES("Recipes");
+
+        private final String title;
+
+        private Section(String title) {
+            this.title = title;
+        }
+    }
+
+    public static class Profile {
+        private final int generation = ProfilingSystem.generation;
+        private final String side;
+        private final String name;
+        private final Profile definitionProfile;
+        private final long[] times = new long[SECTIONS.length];
+        private final long[] calls = new long[SECTIONS.length];
+        private int entityCount;
+
+        private Profile(String side, String name, Profile definitionProfile) {
+            this.side = side;
+            this.name = name;
+            this.definitionProfile = definitionProfile;
+        }
+
+        private void add(Section section, long time) {
+            times[section.ordinal()] += time;
+            ++calls[section.ordinal()];
+        }
+
+        private void writeReport(PrintWriter writer) {
+            writer.print("[" + side + "] " + name);
+            if (definitionProfile == null) {
+                writer.print(" (" + entityCount + " entities)");
+            }
+            writer.println();
+            writer.print("   ");
+            for (Section section : SECTIONS) {
+                int index = section.ordinal();
+                writer.printf(Locale.ROOT, " %s: %.2f (%.1f)", section.title, times[index] / 1.0E6D, calls[index] != 0 ? times[index] / 1.0E3D / calls[index] : 0);
+            }
+            writer.println();
+        }
+
+        private void writeCSV(PrintWriter writer, String type) {
+            writer.print(type + "," + side + "," + name + "," + (definitionProfile == null ? entityCount : 1));
+            for (Section section : SECTIONS) {
+                int index = section.ordinal();
+                writer.printf(Locale.ROOT, ",%d,%.3f", calls[index], times[index] / 1.0E6D);
+            }
+            writer.println();
+        }
+    }
+}
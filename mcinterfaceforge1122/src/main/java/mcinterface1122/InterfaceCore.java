@@ -47,6 +47,11 @@ class InterfaceCore implements IInterfaceCore {
         InterfaceLoader.LOGGER.error("MTSERROR: " + message);
     }
 
+    @Override
+    public void logInfo(String message) {
+        InterfaceLoader.LOGGER.info("MTS: " + message);
+    }
+
     @Override
     public IWrapperNBT getNewNBTWrapper() {
         return new WrapperNBT();
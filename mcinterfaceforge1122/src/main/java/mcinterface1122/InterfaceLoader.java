@@ -11,12 +11,18 @@ import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packloading.PackParser;
 import minecrafttransportsimulator.systems.ConfigSystem;
 import minecrafttransportsimulator.systems.LanguageSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.Mod.EventHandler;
 import net.minecraftforge.fml.common.event.FMLConstructionEvent;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
 
 /**
  * Loader interface for the mod.  This class is not actually an interface, unlike everything else.
@@ -101,4 +107,30 @@ public final class InterfaceLoader {
             ConfigSystem.saveToDisk();
         }
     }
+
+    @EventHandler
+    public void serverStarting(FMLServerStartingEvent event) {
+        //Register commands.  These are forwarded to the core systems that handle them.
+        event.registerServerCommand(new CommandBase() {
+            @Override
+            public String getName() {
+                return ProfilingSystem.COMMAND_NAME;
+            }
+
+            @Override
+            public String getUsage(ICommandSender sender) {
+                return ProfilingSystem.COMMAND_USAGE;
+            }
+
+            @Override
+            public int getRequiredPermissionLevel() {
+                return 2;
+            }
+
+            @Override
+            public void execute(MinecraftServer server, ICommandSender sender, String[] args) {
+                sender.sendMessage(new TextComponentString(ProfilingSystem.handleCommand(args.length > 0 ? args[0] : "")));
+            }
+        });
+    }
 }
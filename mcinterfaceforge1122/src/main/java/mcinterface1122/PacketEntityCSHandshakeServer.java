@@ -1,6 +1,7 @@
 package mcinterface1122;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.packets.components.APacketBase;
@@ -17,6 +18,7 @@ import net.minecraft.util.math.BlockPos;
 public class PacketEntityCSHandshakeServer extends APacketBase {
     private final String builderID;
     private final IWrapperNBT data;
+    private byte[] encodedData;
 
     public PacketEntityCSHandshakeServer(ABuilderEntityBase builder, IWrapperNBT data) {
         super(null);
@@ -40,7 +42,17 @@ public class PacketEntityCSHandshakeServer extends APacketBase {
     public void writeToBuffer(ByteBuf buf) {
         super.writeToBuffer(buf);
         writeStringToBuffer(builderID, buf);
-        writeDataToBuffer(data, buf);
+        //This packet may be sent to multiple players, so only encode the data the first time.
+        synchronized (this) {
+            if (encodedData == null) {
+                ByteBuf dataBuf = Unpooled.buffer();
+                writeDataToBuffer(data, dataBuf);
+                encodedData = new byte[dataBuf.readableBytes()];
+                dataBuf.readBytes(encodedData);
+                dataBuf.release();
+            }
+        }
+        buf.writeBytes(encodedData);
     }
 
     @Override
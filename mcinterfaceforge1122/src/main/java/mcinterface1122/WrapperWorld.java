@@ -1,6 +1,7 @@
 package mcinterface1122;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -36,7 +37,6 @@ import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packets.instances.PacketWorldSavedDataRequest;
-import minecrafttransportsimulator.packets.instances.PacketWorldSavedDataUpdate;
 import minecrafttransportsimulator.packloading.PackParser;
 import minecrafttransportsimulator.systems.ConfigSystem;
 import net.minecraft.block.Block;
@@ -197,16 +197,20 @@ public class WrapperWorld extends AWrapperWorld {
     public void setData(String name, IWrapperNBT value) {
         savedData.setData(name, value);
         if (!isClient()) {
-            try {
-                CompressedStreamTools.writeCompressed(((WrapperNBT) savedData).tag, Files.newOutputStream(getDataFile().toPath()));
-                InterfaceManager.packetInterface.sendToAllClients(new PacketWorldSavedDataUpdate(name, value));
-            } catch (Exception e) {
-                e.printStackTrace();
-                throw new IllegalStateException("Could not save data to disk!  This will result in data loss if we continue!");
-            }
+            markDataChanged(name);
         }
     }
 
+    @Override
+    protected IWrapperNBT copyData() {
+        return new WrapperNBT(((WrapperNBT) savedData).tag.copy());
+    }
+
+    @Override
+    protected void writeDataFile(IWrapperNBT data, File file) throws IOException {
+        CompressedStreamTools.writeCompressed(((WrapperNBT) data).tag, Files.newOutputStream(file.toPath()));
+    }
+
     @Override
     public File getDataFile() {
         return new File(world.getSaveHandler().getWorldDirectory(), "mtsdata.dat");
@@ -719,6 +723,31 @@ public class WrapperWorld extends AWrapperWorld {
         return false;
     }
 
+    @Override
+    public void setBlocks(Map<Point3D, ABlockBase> blocks) {
+        if (!world.isRemote) {
+            Set<BlockPos> placedPositions = new HashSet<>();
+            blocks.forEach((position, block) -> {
+                BlockPos pos = new BlockPos(position.x, position.y, position.z);
+                if (world.setBlockState(pos, BuilderBlock.blockMap.get(block).getDefaultState(), 10)) {
+                    placedPositions.add(pos);
+                }
+            });
+            //Update neighbors now that all blocks are placed.  Blocks we placed don't need to be told about
+            //each other, so only update neighbors that aren't in the batch.
+            for (BlockPos pos : placedPositions) {
+                Block placedBlock = world.getBlockState(pos).getBlock();
+                for (EnumFacing facing : EnumFacing.VALUES) {
+                    BlockPos neighborPos = pos.offset(facing);
+                    if (!placedPositions.contains(neighborPos)) {
+                        world.neighborChanged(neighborPos, placedBlock, pos);
+                    }
+                }
+                world.updateObservingBlocksAt(pos, placedBlock);
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <TileEntityType extends ATileEntityBase<?>> TileEntityType getTileEntity(Point3D position) {
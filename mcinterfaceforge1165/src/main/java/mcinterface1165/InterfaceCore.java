@@ -87,6 +87,11 @@ class InterfaceCore implements IInterfaceCore {
         InterfaceLoader.LOGGER.error("MTSERROR: " + message);
     }
 
+    @Override
+    public void logInfo(String message) {
+        InterfaceLoader.LOGGER.info("MTS: " + message);
+    }
+
     @Override
     public IWrapperNBT getNewNBTWrapper() {
         return new WrapperNBT();
@@ -49,16 +49,14 @@ public class InterfaceJEI implements IModPlugin {
 
                     //For each bench, get all things they can craft, and add them as recipes.
                     List<PackRecipeWrapper> benchRecipes = new ArrayList<>();
-                    for (AItemPack<?> packItemToTest : PackParser.getAllPackItems()) {
-                        if (packItemToTest.isBenchValid(benchItem.definition.decor.crafting)) {
-                            for (int i = 0; i < packItemToTest.definition.general.materialLists.size(); ++i) {
-                                benchRecipes.add(new PackRecipeWrapper(packItemToTest, i, false));
-                            }
+                    for (AItemPack<?> packItemToTest : PackParser.getItemsForBench(benchItem.definition.decor.crafting)) {
+                        for (int i = 0; i < packItemToTest.definition.general.materialLists.size(); ++i) {
+                            benchRecipes.add(new PackRecipeWrapper(packItemToTest, i, false));
+                        }
 
-                            if (packItemToTest.definition.general.repairMaterialLists != null) {
-                                for (int i = 0; i < packItemToTest.definition.general.repairMaterialLists.size(); ++i) {
-                                    benchRecipes.add(new PackRecipeWrapper(packItemToTest, i, true));
-                                }
+                        if (packItemToTest.definition.general.repairMaterialLists != null) {
+                            for (int i = 0; i < packItemToTest.definition.general.repairMaterialLists.size(); ++i) {
+                                benchRecipes.add(new PackRecipeWrapper(packItemToTest, i, true));
                             }
                         }
                     }
@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map.Entry;
 
+import com.mojang.brigadier.arguments.StringArgumentType;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -28,11 +30,16 @@ import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packloading.PackParser;
 import minecrafttransportsimulator.systems.ConfigSystem;
 import minecrafttransportsimulator.systems.LanguageSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem;
+import net.minecraft.command.Commands;
 import net.minecraft.entity.EntityClassification;
 import net.minecraft.entity.EntityType;
 import net.minecraft.item.Food;
 import net.minecraft.item.Item;
 import net.minecraft.tileentity.TileEntityType;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLConstructModEvent;
@@ -63,6 +70,7 @@ public class InterfaceLoader {
         gameDirectory = FMLPaths.GAMEDIR.get().toFile().getAbsolutePath();
         FMLJavaModLoadingContext.get().getModEventBus().addListener(this::init);
         FMLJavaModLoadingContext.get().getModEventBus().addListener(this::onPostConstruction);
+        MinecraftForge.EVENT_BUS.addListener(InterfaceLoader::registerCommands);
     }
 
     /**Need to defer init until post-mod construction, as in this version
@@ -261,4 +269,15 @@ public class InterfaceLoader {
             ConfigSystem.saveToDisk();
         }
     }
+
+    /**
+     * Registers the commands for this mod.  These are forwarded to the core systems that handle them.
+     */
+    private static void registerCommands(RegisterCommandsEvent event) {
+        event.getDispatcher().register(Commands.literal(ProfilingSystem.COMMAND_NAME).requires(source -> source.hasPermission(2)).then(Commands.argument("action", StringArgumentType.word()).executes(context -> {
+            String message = ProfilingSystem.handleCommand(StringArgumentType.getString(context, "action"));
+            context.getSource().sendSuccess(new StringTextComponent(message), true);
+            return 1;
+        })));
+    }
 }
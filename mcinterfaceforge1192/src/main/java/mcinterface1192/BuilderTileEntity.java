@@ -135,10 +135,12 @@ public class BuilderTileEntity extends BlockEntity {
             } else {
                 //Send any packets to clients that requested them.
                 if (!playersRequestingData.isEmpty()) {
+                    //Save and encode our data once for all players, rather than once per player.
+                    IWrapperNBT data = InterfaceManager.coreInterface.getNewNBTWrapper();
+                    saveAdditional(((WrapperNBT) data).tag);
+                    PacketEntityCSHandshakeServer packet = new PacketEntityCSHandshakeServer(this, data);
                     for (IWrapperPlayer player : playersRequestingData) {
-                        IWrapperNBT data = InterfaceManager.coreInterface.getNewNBTWrapper();
-                        saveAdditional(((WrapperNBT) data).tag);
-                        player.sendPacket(new PacketEntityCSHandshakeServer(this, data));
+                        player.sendPacket(packet);
                     }
                     playersRequestingData.clear();
                 }
@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
+import com.mojang.brigadier.arguments.StringArgumentType;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -28,11 +30,16 @@ import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packloading.PackParser;
 import minecrafttransportsimulator.systems.ConfigSystem;
 import minecrafttransportsimulator.systems.LanguageSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.MobCategory;
 import net.minecraft.world.food.FoodProperties;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLConstructModEvent;
@@ -68,6 +75,7 @@ public class InterfaceLoader {
         gameDirectory = FMLPaths.GAMEDIR.get().toFile().getAbsolutePath();
         FMLJavaModLoadingContext.get().getModEventBus().addListener(this::init);
         FMLJavaModLoadingContext.get().getModEventBus().addListener(this::onPostConstruction);
+        MinecraftForge.EVENT_BUS.addListener(InterfaceLoader::registerCommands);
     }
 
     /**Need to defer init until post-mod construction, as in this version
@@ -254,4 +262,15 @@ public class InterfaceLoader {
             ConfigSystem.saveToDisk();
         }
     }
+
+    /**
+     * Registers the commands for this mod.  These are forwarded to the core systems that handle them.
+     */
+    private static void registerCommands(RegisterCommandsEvent event) {
+        event.getDispatcher().register(Commands.literal(ProfilingSystem.COMMAND_NAME).requires(source -> source.hasPermission(2)).then(Commands.argument("action", StringArgumentType.word()).executes(context -> {
+            String message = ProfilingSystem.handleCommand(StringArgumentType.getString(context, "action"));
+            context.getSource().sendSuccess(Component.literal(message), true);
+            return 1;
+        })));
+    }
 }
@@ -72,6 +72,18 @@ public class InterfaceSound implements IInterfaceSound {
      **/
     private static final List<SoundInstance> pausedRadioSounds = new ArrayList<>();
 
+    /**
+     * List of looping sounds that are virtual.  These don't have sources as they can't be heard,
+     * and get sources again once they can be.  This keeps sources free for sounds that can be heard.
+     **/
+    private static final List<SoundInstance> virtualSounds = new ArrayList<>();
+
+    /**
+     * List of playing sounds that had their source taken by a virtual sound this update.  These are added to
+     * {@link #virtualSounds} once we are done going through it.
+     **/
+    private static final List<SoundInstance> soundsLosingSources = new ArrayList<>();
+
     /**
      * This gets incremented whenever we try to get a source and fail.  If we get to 10, the sound system
      * will stop attempting to play sounds.  Used for when mods take all the sources.
@@ -107,6 +119,9 @@ public class InterfaceSound implements IInterfaceSound {
                     }
                 }
                 playingSounds.removeAll(pausedRadioSounds);
+                for (SoundInstance sound : virtualSounds) {
+                    sound.stopSound = true;
+                }
             }
             return;
         } else if (isSystemPaused) {
@@ -129,6 +144,9 @@ public class InterfaceSound implements IInterfaceSound {
             for (SoundInstance sound : playingSounds) {
                 sound.stopSound = true;
             }
+            for (SoundInstance sound : virtualSounds) {
+                sound.stopSound = true;
+            }
         }
 
         //Start playing all queued sounds.
@@ -140,6 +158,35 @@ public class InterfaceSound implements IInterfaceSound {
             queuedSounds.clear();
         }
 
+        //Update virtual sounds.  Remove stopped ones, and give ones that can be heard again a source.
+        //If there are no free sources, take one from a quieter looping sound.  Once we find there are no free sources,
+        //don't try to get one for the rest of the sounds, as that would just fail again.
+        boolean sourcesAvailable = true;
+        Iterator<SoundInstance> virtualIterator = virtualSounds.iterator();
+        while (virtualIterator.hasNext()) {
+            SoundInstance sound = virtualIterator.next();
+            if (sound.stopSound) {
+                virtualIterator.remove();
+                sound.entity.sounds.remove(sound);
+            } else {
+                float gain = getGain(sound);
+                if (gain > SoundInstance.AUDIBLE_GAIN) {
+                    boolean gotSource = sourcesAvailable && createVirtualSoundSource(sound);
+                    if (!gotSource) {
+                        sourcesAvailable = false;
+                        gotSource = takeQuieterSoundSource(gain) && createVirtualSoundSource(sound);
+                    }
+                    if (gotSource) {
+                        virtualIterator.remove();
+                        AL10.alSourcePlay(sound.sourceIndex);
+                        playingSounds.add(sound);
+                    }
+                }
+            }
+        }
+        virtualSounds.addAll(soundsLosingSources);
+        soundsLosingSources.clear();
+
         //Update playing sounds.
         boolean soundSystemReset = false;
         Iterator<SoundInstance> iterator = playingSounds.iterator();
@@ -156,28 +203,30 @@ public class InterfaceSound implements IInterfaceSound {
             if (state == AL10.AL_PLAYING) {
                 if (sound.stopSound) {
                     AL10.alSourceStop(sound.sourceIndex);
+                } else if (canBeVirtual(sound) && getGain(sound) <= SoundInstance.INAUDIBLE_GAIN) {
+                    //Looping sound that can't be heard.  Make it virtual to free up its source.
+                    deleteVirtualSoundSource(sound);
+                    iterator.remove();
+                    virtualSounds.add(sound);
                 } else {
-                    //Update position and volume, and block rolloff.
+                    //Update position, volume, and pitch.  Only send values that changed to save on calls.
                     sound.updatePosition();
-                    AL10.alSource3f(sound.sourceIndex, AL10.AL_POSITION, (float) sound.position.x, (float) sound.position.y, (float) sound.position.z);
-                    if (sound.radio == null) {
-                        AL10.alSourcef(sound.sourceIndex, AL10.AL_GAIN, sound.volume * ConfigSystem.client.controlSettings.soundVolume.value);
-                    } else {
-                        AL10.alSourcef(sound.sourceIndex, AL10.AL_GAIN, sound.volume * ConfigSystem.client.controlSettings.radioVolume.value);
+                    if (sound.updateSentPosition()) {
+                        AL10.alSource3f(sound.sourceIndex, AL10.AL_POSITION, (float) sound.position.x, (float) sound.position.y, (float) sound.position.z);
+                    }
+                    float gain = getGain(sound);
+                    if (sound.updateSentGain(gain)) {
+                        AL10.alSourcef(sound.sourceIndex, AL10.AL_GAIN, gain);
                     }
-                    AL10.alSourcef(sound.sourceIndex, AL10.AL_ROLLOFF_FACTOR, 0);
 
                     //If the sound is looping, and the player isn't riding the source, calculate doppler pitch effect.
                     //Otherwise, set pitch as normal.
+                    float pitch = sound.pitch;
                     if (sound.soundDef != null && sound.soundDef.looping && !sound.soundDef.blockDoppler && !sound.entity.equals(player.getEntityRiding())) {
-                        Point3D playerVelocity = player.getVelocity();
-                        playerVelocity.y = 0;
-                        double initalDelta = player.getPosition().subtract(sound.entity.position).length();
-                        double finalDelta = player.getPosition().add(playerVelocity).subtract(sound.entity.position).add(-sound.entity.motion.x, 0D, -sound.entity.motion.z).length();
-                        float dopplerFactor = (float) (initalDelta > finalDelta ? 1 + 0.25 * (initalDelta - finalDelta) / initalDelta : 1 - 0.25 * (finalDelta - initalDelta) / finalDelta);
-                        AL10.alSourcef(sound.sourceIndex, AL10.AL_PITCH, sound.pitch * dopplerFactor);
-                    } else {
-                        AL10.alSourcef(sound.sourceIndex, AL10.AL_PITCH, sound.pitch);
+                        pitch *= sound.getDopplerFactor(player.getPosition(), player.getVelocity());
+                    }
+                    if (sound.updateSentPitch(pitch)) {
+                        AL10.alSourcef(sound.sourceIndex, AL10.AL_PITCH, pitch);
                     }
                 }
             } else {
@@ -221,6 +270,10 @@ public class InterfaceSound implements IInterfaceSound {
                 sound.entity.sounds.remove(sound);
             }
             playingSounds.clear();
+            for (SoundInstance sound : virtualSounds) {
+                sound.entity.sounds.remove(sound);
+            }
+            virtualSounds.clear();
             sourceGetFailures = 0;
         }
     }
@@ -244,6 +297,13 @@ public class InterfaceSound implements IInterfaceSound {
                 AL10.alGetError();
                 AL10.alGenSources(sourceBuffer);
                 if (AL10.alGetError() != AL10.AL_NO_ERROR) {
+                    if (canBeVirtual(sound)) {
+                        //No free sources.  Make the sound virtual, it will get a source when one is free,
+                        //or take one from a quieter sound if it can be heard.
+                        virtualSounds.add(sound);
+                        sound.entity.sounds.add(sound);
+                        return;
+                    }
                     AL10.alDeleteBuffers(dataBufferPointer);
                     if (++sourceGetFailures == 10) {
                         if (!postedSoundWarning) {
@@ -276,9 +336,7 @@ public class InterfaceSound implements IInterfaceSound {
 
                 //Set properties and bind data buffer to source.
                 AL10.alGetError();
-                AL10.alSourcei(sound.sourceIndex, AL10.AL_LOOPING, sound.soundDef != null && sound.soundDef.looping ? AL10.AL_TRUE : AL10.AL_FALSE);
-                AL10.alSource3f(sound.sourceIndex, AL10.AL_POSITION, (float) sound.entity.position.x, (float) sound.entity.position.y, (float) sound.entity.position.z);
-                AL10.alSourcei(sound.sourceIndex, AL10.AL_BUFFER, dataBufferPointer);
+                setupSoundSource(sound, dataBufferPointer);
 
                 //Done setting up buffer.  Queue sound to start playing.
                 queuedSounds.add(sound);
@@ -287,6 +345,87 @@ public class InterfaceSound implements IInterfaceSound {
         }
     }
 
+    /**
+     * Sets the properties of the passed-in sound's source, and binds the data buffer to it.
+     */
+    private static void setupSoundSource(SoundInstance sound, int dataBufferPointer) {
+        AL10.alSourcei(sound.sourceIndex, AL10.AL_LOOPING, sound.soundDef != null && sound.soundDef.looping ? AL10.AL_TRUE : AL10.AL_FALSE);
+        AL10.alSource3f(sound.sourceIndex, AL10.AL_POSITION, (float) sound.entity.position.x, (float) sound.entity.position.y, (float) sound.entity.position.z);
+        AL10.alSourcef(sound.sourceIndex, AL10.AL_ROLLOFF_FACTOR, 0);
+        AL10.alSourcei(sound.sourceIndex, AL10.AL_BUFFER, dataBufferPointer);
+        sound.resetSentValues();
+    }
+
+    /**
+     * Creates a source for the passed-in virtual sound.  Returns true if the source
+     * was created, false if there are no free sources or the sound's data is gone.
+     */
+    private static boolean createVirtualSoundSource(SoundInstance sound) {
+        Integer dataBufferPointer = dataSourceBuffers.get(sound.soundPlayingName);
+        if (dataBufferPointer != null) {
+            IntBuffer sourceBuffer = BufferUtils.createIntBuffer(1);
+            AL10.alGetError();
+            AL10.alGenSources(sourceBuffer);
+            if (AL10.alGetError() == AL10.AL_NO_ERROR) {
+                sound.sourceIndex = sourceBuffer.get(0);
+                setupSoundSource(sound, dataBufferPointer);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Deletes the source of the passed-in sound, so it can be made virtual.
+     */
+    private static void deleteVirtualSoundSource(SoundInstance sound) {
+        AL10.alSourceStop(sound.sourceIndex);
+        AL10.alSourcei(sound.sourceIndex, AL10.AL_BUFFER, AL10.AL_NONE);
+        IntBuffer sourceBuffer = BufferUtils.createIntBuffer(1);
+        sourceBuffer.put(sound.sourceIndex).flip();
+        AL10.alDeleteSources(sourceBuffer);
+    }
+
+    /**
+     * Frees the source of the quietest playing sound that can be virtual, if it is quiet enough compared
+     * to the passed-in gain.  See {@link SoundInstance#SOURCE_TAKE_GAIN_FACTOR}.  Returns true if a source was freed.
+     */
+    private static boolean takeQuieterSoundSource(float gain) {
+        SoundInstance quietestSound = null;
+        float quietestGain = gain * SoundInstance.SOURCE_TAKE_GAIN_FACTOR;
+        for (SoundInstance testSound : playingSounds) {
+            if (!testSound.stopSound && canBeVirtual(testSound)) {
+                float testGain = getGain(testSound);
+                if (testGain < quietestGain) {
+                    quietestSound = testSound;
+                    quietestGain = testGain;
+                }
+            }
+        }
+        if (quietestSound != null) {
+            deleteVirtualSoundSource(quietestSound);
+            playingSounds.remove(quietestSound);
+            soundsLosingSources.add(quietestSound);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the passed-in sound can be made virtual.  Only looping sounds can, as they can
+     * be started again without it being noticed.  Radios can't, as they need their source for streaming.
+     */
+    private static boolean canBeVirtual(SoundInstance sound) {
+        return sound.radio == null && sound.soundDef != null && sound.soundDef.looping;
+    }
+
+    /**
+     * Returns the gain for the passed-in sound, which is its volume times the volume setting for its type.
+     */
+    private static float getGain(SoundInstance sound) {
+        return sound.volume * (sound.radio == null ? ConfigSystem.client.controlSettings.soundVolume.value : ConfigSystem.client.controlSettings.radioVolume.value);
+    }
+
     @Override
     public void addRadioStation(RadioStation station) {
         playingStations.add(station);
@@ -309,6 +448,8 @@ public class InterfaceSound implements IInterfaceSound {
                 return;
             }
             sound.sourceIndex = sourceBuffer.get(0);
+            AL10.alSourcef(sound.sourceIndex, AL10.AL_ROLLOFF_FACTOR, 0);
+            sound.resetSentValues();
 
             //Queue up the buffer sources to the source itself.
             for (int bufferIndex : buffers) {
@@ -430,6 +571,9 @@ public class InterfaceSound implements IInterfaceSound {
                 sound.stopSound = true;
             }
         }
+        for (SoundInstance sound : virtualSounds) {
+            sound.stopSound = true;
+        }
 
         //Mark world as un-paused and update sounds to stop the ones that were just removed.
         isSystemPaused = false;
@@ -469,6 +613,11 @@ public class InterfaceSound implements IInterfaceSound {
                     }
                 }
             }
+            for (SoundInstance sound : virtualSounds) {
+                if (event.getLevel() == ((WrapperWorld) sound.entity.world).world) {
+                    sound.stopSound = true;
+                }
+            }
 
             //Mark world as un-paused and update sounds to stop the ones that were just removed.
             isSystemPaused = false;
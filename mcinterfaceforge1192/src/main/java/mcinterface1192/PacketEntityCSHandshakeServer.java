@@ -3,6 +3,7 @@ package mcinterface1192;
 import java.util.UUID;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import minecrafttransportsimulator.mcinterface.AWrapperWorld;
 import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.packets.components.APacketBase;
@@ -18,6 +19,7 @@ import net.minecraft.core.BlockPos;
 public class PacketEntityCSHandshakeServer extends APacketBase {
     private final String builderID;
     private final IWrapperNBT data;
+    private byte[] encodedData;
 
     public PacketEntityCSHandshakeServer(ABuilderEntityBase builder, IWrapperNBT data) {
         super(null);
@@ -41,7 +43,17 @@ public class PacketEntityCSHandshakeServer extends APacketBase {
     public void writeToBuffer(ByteBuf buf) {
         super.writeToBuffer(buf);
         writeStringToBuffer(builderID, buf);
-        writeDataToBuffer(data, buf);
+        //This packet may be sent to multiple players, so only encode the data the first time.
+        synchronized (this) {
+            if (encodedData == null) {
+                ByteBuf dataBuf = Unpooled.buffer();
+                writeDataToBuffer(data, dataBuf);
+                encodedData = new byte[dataBuf.readableBytes()];
+                dataBuf.readBytes(encodedData);
+                dataBuf.release();
+            }
+        }
+        buf.writeBytes(encodedData);
     }
 
     @Override
@@ -97,10 +97,12 @@ public abstract class ABuilderEntityBase extends Entity {
         } else if (loadedFromSavedNBT) {
             //Send any packets to clients that requested them.
             if (!playersRequestingData.isEmpty()) {
+                //Save and encode our data once for all players, rather than once per player.
+                IWrapperNBT data = InterfaceManager.coreInterface.getNewNBTWrapper();
+                saveWithoutId(((WrapperNBT) data).tag);
+                PacketEntityCSHandshakeServer packet = new PacketEntityCSHandshakeServer(this, data);
                 for (IWrapperPlayer player : playersRequestingData) {
-                    IWrapperNBT data = InterfaceManager.coreInterface.getNewNBTWrapper();
-                    saveWithoutId(((WrapperNBT) data).tag);
-                    player.sendPacket(new PacketEntityCSHandshakeServer(this, data));
+                    player.sendPacket(packet);
                 }
                 playersRequestingData.clear();
             }
@@ -10,6 +10,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import com.mojang.brigadier.arguments.StringArgumentType;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -31,6 +33,8 @@ import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packloading.PackParser;
 import minecrafttransportsimulator.systems.ConfigSystem;
 import minecrafttransportsimulator.systems.LanguageSystem;
+import minecrafttransportsimulator.systems.ProfilingSystem;
+import net.minecraft.commands.Commands;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.EntityType;
@@ -41,6 +45,8 @@ import net.minecraft.world.item.CreativeModeTab.DisplayItemsGenerator;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLConstructModEvent;
@@ -80,6 +86,7 @@ public class InterfaceLoader {
         this.gameDirectory = FMLPaths.GAMEDIR.get().toFile().getAbsolutePath();
         context.getModEventBus().addListener(this::init);
         context.getModEventBus().addListener(this::onPostConstruction);
+        MinecraftForge.EVENT_BUS.addListener(InterfaceLoader::registerCommands);
     }
 
     /**Need to defer init until post-mod construction, as in this version
@@ -273,4 +280,15 @@ public class InterfaceLoader {
             ConfigSystem.saveToDisk();
         }
     }
+
+    /**
+     * Registers the commands for this mod.  These are forwarded to the core systems that handle them.
+     */
+    private static void registerCommands(RegisterCommandsEvent event) {
+        event.getDispatcher().register(Commands.literal(ProfilingSystem.COMMAND_NAME).requires(source -> source.hasPermission(2)).then(Commands.argument("action", StringArgumentType.word()).executes(context -> {
+            String message = ProfilingSystem.handleCommand(StringArgumentType.getString(context, "action"));
+            context.getSource().sendSuccess(() -> Component.literal(message), true);
+            return 1;
+        })));
+    }
 }
@@ -1,6 +1,7 @@
 package mcinterface1201;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -42,7 +43,6 @@ import minecrafttransportsimulator.mcinterface.IWrapperNBT;
 import minecrafttransportsimulator.mcinterface.IWrapperPlayer;
 import minecrafttransportsimulator.mcinterface.InterfaceManager;
 import minecrafttransportsimulator.packets.instances.PacketWorldSavedDataRequest;
-import minecrafttransportsimulator.packets.instances.PacketWorldSavedDataUpdate;
 import minecrafttransportsimulator.packloading.PackParser;
 import minecrafttransportsimulator.systems.ConfigSystem;
 import net.minecraft.core.BlockPos;
@@ -218,16 +218,20 @@ public class WrapperWorld extends AWrapperWorld {
     public void setData(String name, IWrapperNBT value) {
         savedData.setData(name, value);
         if (!isClient()) {
-            try {
-                NbtIo.writeCompressed(((WrapperNBT) savedData).tag, Files.newOutputStream(getDataFile().toPath()));
-                InterfaceManager.packetInterface.sendToAllClients(new PacketWorldSavedDataUpdate(name, value));
-            } catch (Exception e) {
-                e.printStackTrace();
-                throw new IllegalStateException("Could not save data to disk!  This will result in data loss if we continue!");
-            }
+            markDataChanged(name);
         }
     }
 
+    @Override
+    protected IWrapperNBT copyData() {
+        return new WrapperNBT(((WrapperNBT) savedData).tag.copy());
+    }
+
+    @Override
+    protected void writeDataFile(IWrapperNBT data, File file) throws IOException {
+        NbtIo.writeCompressed(((WrapperNBT) data).tag, Files.newOutputStream(file.toPath()));
+    }
+
     @Override
     public File getDataFile() {
         return new File(((DimensionDataStorageMixin) ((ServerLevel) world).getDataStorage()).getDataFolder(), "mtsdata.dat");
@@ -755,6 +759,30 @@ public class WrapperWorld extends AWrapperWorld {
         return false;
     }
 
+    @Override
+    public void setBlocks(Map<Point3D, ABlockBase> blocks) {
+        if (!world.isClientSide) {
+            Set<BlockPos> placedPositions = new HashSet<>();
+            blocks.forEach((position, block) -> {
+                BlockPos pos = BlockPos.containing(position.x, position.y, position.z);
+                if (world.setBlock(pos, BuilderBlock.blockMap.get(block).defaultBlockState(), 10)) {
+                    placedPositions.add(pos);
+                }
+            });
+            //Update neighbors now that all blocks are placed.  Blocks we placed don't need to be told about
+            //each other, so only update neighbors that aren't in the batch.
+            for (BlockPos pos : placedPositions) {
+                Block placedBlock = world.getBlockState(pos).getBlock();
+                for (Direction direction : Direction.values()) {
+                    BlockPos neighborPos = pos.relative(direction);
+                    if (!placedPositions.contains(neighborPos)) {
+                        world.neighborChanged(neighborPos, placedBlock, pos);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <TileEntityType extends ATileEntityBase<?>> TileEntityType getTileEntity(Point3D position) {